@@ -0,0 +1,123 @@
+package com.example.VoloConnect.benchmarks;
+
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.EventVolunteer;
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.models.VolunteerSkill;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the database with a deterministic synthetic dataset of the requested size.
+ */
+final class BenchmarkDataGenerator {
+
+	static final String[] SKILLS = {"first aid", "cooking", "driving", "teaching", "logistics",
+			"photography", "translation", "fundraising", "carpentry", "counselling"};
+
+	static final String[] AVAILABILITY = {"weekends", "weekday evenings", "mornings", "flexible"};
+
+	private static final int CHUNK_SIZE = 1_000;
+
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+
+	BenchmarkDataGenerator(EntityManager entityManager, TransactionTemplate transactionTemplate) {
+		this.entityManager = entityManager;
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	/**
+	 * Insert the dataset and return the generated IDs.
+	 *
+	 * Assignment k of event e goes to volunteer (k + 31 * e) mod volunteers, so
+	 * no (event, volunteer) pair repeats as long as assignments per event stay
+	 * below the volunteer count.
+	 */
+	Dataset generate(int volunteers, int events, int assignments, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		long[] volunteerIds = new long[volunteers];
+		long[] eventIds = new long[events];
+
+		for (int from = 0; from < volunteers; from += CHUNK_SIZE) {
+			int start = from;
+			int end = Math.min(volunteers, from + CHUNK_SIZE);
+			transactionTemplate.executeWithoutResult(status -> {
+				for (int i = start; i < end; i++) {
+					Volunteer volunteer = new Volunteer();
+					volunteer.setName("Volunteer " + i);
+					volunteer.setEmail("bench-" + i + "@example.com");
+					volunteer.setPhone("555-" + i);
+					String first = SKILLS[random.nextInt(SKILLS.length)];
+					String second = SKILLS[random.nextInt(SKILLS.length)];
+					volunteer.setSkills(first + ", " + second);
+					volunteer.setAvailability(AVAILABILITY[random.nextInt(AVAILABILITY.length)]);
+					volunteer.setStatus(Volunteer.VolunteerStatus.values()[random.nextInt(3)]);
+					entityManager.persist(volunteer);
+					for (String skill : VolunteerSkill.tokenize(volunteer.getSkills())) {
+						entityManager.persist(new VolunteerSkill(volunteer, skill));
+					}
+					volunteerIds[i] = volunteer.getId();
+				}
+				entityManager.flush();
+				entityManager.clear();
+			});
+		}
+
+		int perEvent = (assignments + events - 1) / Math.max(1, events);
+		long now = System.currentTimeMillis();
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int e = 0; e < events; e++) {
+				boolean past = e % 3 == 0;
+				Event event = new Event();
+				event.setTitle("Benchmark event " + e);
+				event.setDescription("Synthetic event for benchmarks");
+				event.setDate(new Date(now + (past ? -1 : 1) * TimeUnit.DAYS.toMillis(e + 1)));
+				event.setLocation("Hall " + (e % 20));
+				event.setCapacity(perEvent + 10);
+				event.setStatus(past ? Event.EventStatus.COMPLETED : Event.EventStatus.UPCOMING);
+				entityManager.persist(event);
+				eventIds[e] = event.getId();
+			}
+		});
+
+		int[] assignedPerEvent = new int[events];
+		for (int from = 0; from < assignments; from += CHUNK_SIZE) {
+			int start = from;
+			int end = Math.min(assignments, from + CHUNK_SIZE);
+			transactionTemplate.executeWithoutResult(status -> {
+				for (int i = start; i < end; i++) {
+					int e = i % events;
+					int k = i / events;
+					EventVolunteer eventVolunteer = new EventVolunteer();
+					eventVolunteer.setEvent(entityManager.getReference(Event.class, eventIds[e]));
+					eventVolunteer.setVolunteer(entityManager.getReference(Volunteer.class,
+							volunteerIds[(k + 31 * e) % volunteers]));
+					eventVolunteer.setRole(k % 5 == 0 ? "Coordinator" : "Helper");
+					entityManager.persist(eventVolunteer);
+					assignedPerEvent[e]++;
+				}
+				entityManager.flush();
+				entityManager.clear();
+			});
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int e = 0; e < events; e++) {
+				entityManager.createQuery("update Event e set e.assignedCount = :count where e.id = :id")
+						.setParameter("count", assignedPerEvent[e])
+						.setParameter("id", eventIds[e])
+						.executeUpdate();
+			}
+		});
+
+		return new Dataset(volunteerIds, eventIds);
+	}
+
+	record Dataset(long[] volunteerIds, long[] eventIds) {
+	}
+}
@@ -0,0 +1,186 @@
+package com.example.VoloConnect.benchmarks;
+
+import com.example.VoloConnect.VoloConnectApplication;
+import com.example.VoloConnect.exceptions.ConflictException;
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.repository.EventRepository;
+import com.example.VoloConnect.repository.VolunteerRepository;
+import com.example.VoloConnect.services.EventManagementService;
+import com.example.VoloConnect.services.VolunteerManagementService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Service hot-path benchmarks against an in-memory H2 dataset.
+ *
+ * Dataset size is controlled with {@code -p volunteers=... -p events=... -p assignments=...}.
+ * {@link #searchVolunteersInMemory} keeps the original findAll() + Java filter
+ * implementation as a baseline for the SQL search paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ServiceBenchmarks {
+
+	@Param("10000")
+	public int volunteers;
+
+	@Param("200")
+	public int events;
+
+	@Param("50000")
+	public int assignments;
+
+	private ConfigurableApplicationContext context;
+	private VolunteerManagementService volunteerManagementService;
+	private EventManagementService eventManagementService;
+	private VolunteerRepository volunteerRepository;
+	private EventRepository eventRepository;
+	private BenchmarkDataGenerator.Dataset dataset;
+	private SplittableRandom random;
+
+	private Long assignmentEventId;
+	private int nextAssignee;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(VoloConnectApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties(
+						"spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1",
+						"spring.jpa.hibernate.ddl-auto=create-drop",
+						"logging.level.root=WARN")
+				.run();
+
+		volunteerManagementService = context.getBean(VolunteerManagementService.class);
+		eventManagementService = context.getBean(EventManagementService.class);
+		volunteerRepository = context.getBean(VolunteerRepository.class);
+		eventRepository = context.getBean(EventRepository.class);
+
+		BenchmarkDataGenerator generator = new BenchmarkDataGenerator(
+				context.getBean(EntityManager.class), context.getBean(TransactionTemplate.class));
+		dataset = generator.generate(volunteers, events, assignments, 42L);
+		random = new SplittableRandom(7L);
+	}
+
+	@Setup(Level.Iteration)
+	public void newAssignmentEvent() {
+		Event event = new Event();
+		event.setTitle("Assignment benchmark event");
+		event.setDescription("Receives the assignVolunteer benchmark's sign-ups");
+		event.setDate(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(30)));
+		event.setLocation("Benchmark hall");
+		event.setCapacity(Integer.MAX_VALUE);
+		assignmentEventId = eventRepository.save(event).getId();
+		nextAssignee = 0;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<Volunteer> searchVolunteers() {
+		return volunteerManagementService.searchVolunteers(randomCriteria());
+	}
+
+	@Benchmark
+	public List<Volunteer> searchVolunteersFirstPage() {
+		return volunteerManagementService.searchVolunteers(randomCriteria(), null, 50).getContent();
+	}
+
+	// Baseline: the original findAll() + in-memory filtering implementation
+	@Benchmark
+	public List<Volunteer> searchVolunteersInMemory() {
+		Map<String, String> criteria = randomCriteria();
+		return volunteerRepository.findAll().stream()
+				.filter(volunteer -> matchesCriteria(volunteer, criteria))
+				.collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<Volunteer> findVolunteersBySkills() {
+		return volunteerManagementService.findVolunteersBySkills(List.of(randomSkill(), randomSkill()), true);
+	}
+
+	@Benchmark
+	public Map<String, Object> getVolunteerStats() {
+		return volunteerManagementService.getVolunteerStats(randomVolunteerId());
+	}
+
+	@Benchmark
+	public List<Volunteer> getEventVolunteers() {
+		return eventManagementService.getEventVolunteers(randomEventId());
+	}
+
+	@Benchmark
+	public Long assignVolunteer() {
+		if (nextAssignee == dataset.volunteerIds().length) {
+			newAssignmentEvent();
+		}
+		try {
+			return eventManagementService.assignVolunteer(assignmentEventId,
+					dataset.volunteerIds()[nextAssignee++], "Helper");
+		} catch (ConflictException e) {
+			return null;
+		}
+	}
+
+	private Map<String, String> randomCriteria() {
+		return Map.of("skills", randomSkill(), "status", "ACTIVE");
+	}
+
+	private String randomSkill() {
+		return BenchmarkDataGenerator.SKILLS[random.nextInt(BenchmarkDataGenerator.SKILLS.length)];
+	}
+
+	private Long randomVolunteerId() {
+		return dataset.volunteerIds()[random.nextInt(dataset.volunteerIds().length)];
+	}
+
+	private Long randomEventId() {
+		return dataset.eventIds()[random.nextInt(dataset.eventIds().length)];
+	}
+
+	private static boolean matchesCriteria(Volunteer volunteer, Map<String, String> criteria) {
+		if (criteria.containsKey("skills") && (volunteer.getSkills() == null ||
+				!volunteer.getSkills().toLowerCase().contains(criteria.get("skills").toLowerCase()))) {
+			return false;
+		}
+
+		if (criteria.containsKey("availability") && (volunteer.getAvailability() == null ||
+				!volunteer.getAvailability().toLowerCase().contains(criteria.get("availability").toLowerCase()))) {
+			return false;
+		}
+
+		return !criteria.containsKey("status") || volunteer.getStatus().name().equalsIgnoreCase(criteria.get("status"));
+	}
+}
@@ -0,0 +1,29 @@
+package com.example.VoloConnect.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EVENTS = "events";
+    public static final String VOLUNTEERS = "volunteers";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${voloconnect.cache.spec:maximumSize=10000,expireAfterWrite=5m}") String spec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(EVENTS, VOLUNTEERS);
+        caffeineCacheManager.setCaffeine(Caffeine.from(spec).recordStats());
+        
+        // Evictions issued inside a transaction are applied only after it commits,
+        // so a concurrent reader cannot re-cache the pre-commit state
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.VoloConnect.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds write requests with 503 while the {@link ConcurrencyLimiter} is at its
+ * limit. Runs after the rate limiter, so requests it already turned away do
+ * not take a slot.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private ConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${voloconnect.concurrency-limit.enabled:true}")
+    private boolean enabled;
+
+    // Reads are served from caches and replicas; only writes compete for the primary's pool
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())
+                || "OPTIONS".equals(request.getMethod()) || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!concurrencyLimiter.tryAcquire()) {
+            meterRegistry.counter("voloconnect.admission", "limiter", "concurrency", "outcome", "shed").increment();
+            rateLimitFilter.reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Server is busy; try again shortly");
+            return;
+        }
+
+        meterRegistry.counter("voloconnect.admission", "limiter", "concurrency", "outcome", "admitted").increment();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrencyLimiter.release();
+        }
+    }
+}
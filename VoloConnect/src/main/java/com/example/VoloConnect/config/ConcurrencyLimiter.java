@@ -0,0 +1,126 @@
+package com.example.VoloConnect.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps how many write requests are in the service layer at once, and moves
+ * the cap with the health of the connection pool.
+ *
+ * Once a second the limiter reads Hikari's own meters: if the average time to
+ * get a connection climbed above the target, or threads are queued for one,
+ * the limit is cut by a quarter; if the pool kept up and the limit was nearly
+ * reached, it grows by one. Requests over the limit are turned away instead
+ * of joining the pool's queue and timing out there.
+ */
+@Component
+public class ConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${voloconnect.concurrency-limit.initial:20}")
+    private int initialLimit;
+
+    @Value("${voloconnect.concurrency-limit.min:2}")
+    private int minLimit;
+
+    @Value("${voloconnect.concurrency-limit.max:200}")
+    private int maxLimit;
+
+    // Average connection acquire time above which the limit backs off
+    @Value("${voloconnect.concurrency-limit.target-acquire-time:PT0.05S}")
+    private Duration targetAcquireTime;
+
+    private final AtomicInteger limit = new AtomicInteger();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // Most requests in flight at once since the last adjustment
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private long lastAcquireCount;
+
+    private double lastAcquireNanos;
+
+    @PostConstruct
+    public void registerMetrics() {
+        limit.set(Math.max(minLimit, Math.min(maxLimit, initialLimit)));
+        Gauge.builder("voloconnect.concurrency.limit", limit, AtomicInteger::get)
+                .description("Write requests allowed into the service layer at once")
+                .register(meterRegistry);
+        Gauge.builder("voloconnect.concurrency.in-flight", inFlight, AtomicInteger::get)
+                .description("Write requests currently in the service layer")
+                .register(meterRegistry);
+    }
+
+    // Take a slot; false if the limit is reached. Every successful call must be paired with release()
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peakInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    @Scheduled(fixedDelayString = "${voloconnect.concurrency-limit.adjust-interval:PT1S}")
+    public void adjust() {
+        long acquireCount = 0;
+        double acquireNanos = 0;
+        for (Timer timer : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+            acquireCount += timer.count();
+            acquireNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        double pending = meterRegistry.find("hikaricp.connections.pending").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .filter(value -> !Double.isNaN(value))
+                .sum();
+
+        long acquired = acquireCount - lastAcquireCount;
+        double averageNanos = acquired > 0 ? (acquireNanos - lastAcquireNanos) / acquired : 0;
+        lastAcquireCount = acquireCount;
+        lastAcquireNanos = acquireNanos;
+        int peak = peakInFlight.getAndSet(inFlight.get());
+
+        int current = limit.get();
+        int next = current;
+        if (pending > 0 || averageNanos > targetAcquireTime.toNanos()) {
+            next = Math.max(minLimit, current * 3 / 4);
+        } else if (peak >= current * 0.8) {
+            next = Math.min(maxLimit, current + 1);
+        }
+
+        if (next != current) {
+            limit.set(next);
+            log.debug("Concurrency limit {} -> {} (pending connections {}, average acquire {} ms)",
+                    current, next, pending, averageNanos / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.VoloConnect.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Makes writes safe to retry: a POST, PUT, PATCH or DELETE under /api that
+ * carries an Idempotency-Key header runs at most once, and retries with the
+ * same key get the first response back.
+ *
+ * A retry that arrives while the first request is still running gets 409; a
+ * key reused for a different request gets 422. Responses with a 5xx status
+ * are not kept, so the retry runs the request again. Multipart uploads are
+ * left alone, since the whole body would have to be held in memory to
+ * compare it.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 30)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    static final String HEADER = "Idempotency-Key";
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Larger responses are not stored; retries of such requests run again
+    @Value("${voloconnect.idempotency.max-response-size:1048576}")
+    private int maxResponseSize;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        String contentType = request.getContentType();
+        return request.getHeader(HEADER) == null
+                || "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)
+                || !request.getRequestURI().startsWith("/api/")
+                || (contentType != null && contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > 255) {
+            error(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be 1 to 255 characters");
+            return;
+        }
+
+        // The rate limiter may already have read the body
+        CachedBodyRequest cached = request instanceof CachedBodyRequest body ? body : new CachedBodyRequest(request);
+        String requestHash = fingerprint(cached);
+
+        IdempotencyStore.Entry existing = idempotencyStore.reserve(key, requestHash);
+        if (existing != null) {
+            answerRetry(existing, requestHash, response);
+            return;
+        }
+
+        meterRegistry.counter("voloconnect.idempotency", "outcome", "executed").increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cached, wrapper);
+            stored = store(key, requestHash, wrapper, cached);
+        } finally {
+            if (!stored) {
+                release(key, requestHash);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void answerRetry(IdempotencyStore.Entry existing, String requestHash, HttpServletResponse response)
+            throws IOException {
+        if (!existing.requestHash().equals(requestHash)) {
+            meterRegistry.counter("voloconnect.idempotency", "outcome", "mismatch").increment();
+            error(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used for a different request");
+            return;
+        }
+        if (!existing.completed()) {
+            meterRegistry.counter("voloconnect.idempotency", "outcome", "in-progress").increment();
+            response.setHeader("Retry-After", "1");
+            error(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is still in progress");
+            return;
+        }
+
+        meterRegistry.counter("voloconnect.idempotency", "outcome", "replayed").increment();
+        response.setStatus(existing.status());
+        response.setHeader("Idempotent-Replayed", "true");
+        if (existing.contentType() != null) {
+            response.setContentType(existing.contentType());
+        }
+        if (existing.body() != null) {
+            response.getOutputStream().write(existing.body().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // Keep the response for retries unless it is a server error, too large, or still being written asynchronously
+    private boolean store(String key, String requestHash, ContentCachingResponseWrapper wrapper,
+                          HttpServletRequest request) {
+        byte[] body = wrapper.getContentAsByteArray();
+        if (wrapper.getStatus() >= 500 || body.length > maxResponseSize || request.isAsyncStarted()) {
+            return false;
+        }
+
+        try {
+            idempotencyStore.complete(key, requestHash, wrapper.getStatus(), wrapper.getContentType(),
+                    new String(body, StandardCharsets.UTF_8));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Could not store the response for idempotency key {}", key, e);
+            return false;
+        }
+    }
+
+    private void release(String key, String requestHash) {
+        try {
+            idempotencyStore.release(key, requestHash);
+        } catch (RuntimeException e) {
+            // The reservation expires on its own after the in-progress timeout
+            log.warn("Could not release idempotency key {}", key, e);
+        }
+    }
+
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(request.getBody());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Same {"message": ...} shape as ApiExceptionHandler
+    private void error(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("message", message));
+    }
+}
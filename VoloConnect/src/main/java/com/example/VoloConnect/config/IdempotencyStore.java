@@ -0,0 +1,156 @@
+package com.example.VoloConnect.config;
+
+import com.example.VoloConnect.models.IdempotencyKey;
+import com.example.VoloConnect.models.IdempotencyKey.KeyStatus;
+import com.example.VoloConnect.repository.IdempotencyKeyRepository;
+import com.example.VoloConnect.services.impl.LeaderLock;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Idempotency keys shared by every instance through the idempotency_keys
+ * table, with completed responses also held in a bounded local cache so most
+ * retries are answered without a query.
+ *
+ * A key is reserved by inserting its row (or taking over an expired one)
+ * before the request runs, so of two concurrent requests with the same key
+ * only one gets to run. Each step commits in its own transaction, so other
+ * instances see the reservation at once and a failing request does not roll
+ * it back.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    static final String LOCK_NAME = "idempotency-cleanup";
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LeaderLock leaderLock;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // How long a completed response is replayed
+    @Value("${voloconnect.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    // How long a reservation holds off retries before it is presumed dead and may be taken over
+    @Value("${voloconnect.idempotency.in-progress-timeout:PT1M}")
+    private Duration inProgressTimeout;
+
+    @Value("${voloconnect.idempotency.cache-size:10000}")
+    private long cacheSize;
+
+    private Cache<String, Entry> completed;
+
+    private TransactionTemplate transaction;
+
+    // What is known about a key that someone else reserved; status and body are only set once completed
+    record Entry(String requestHash, boolean completed, int status, String contentType, String body) {
+    }
+
+    @PostConstruct
+    public void createCache() {
+        completed = Caffeine.newBuilder().maximumSize(cacheSize).expireAfterWrite(ttl).build();
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Reserve the key for a request.
+     *
+     * @return null if the caller now holds the key and must complete or
+     *         release it, otherwise the entry of whoever used the key first
+     */
+    Entry reserve(String key, String requestHash) {
+        Entry cached = completed.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Date now = new Date();
+        Date until = new Date(now.getTime() + inProgressTimeout.toMillis());
+        try {
+            return transaction.execute(status -> {
+                if (idempotencyKeyRepository.takeOver(key, requestHash, KeyStatus.IN_PROGRESS, now, until) > 0) {
+                    return null;
+                }
+                IdempotencyKey existing = idempotencyKeyRepository.findById(key).orElse(null);
+                if (existing != null) {
+                    return toEntry(existing);
+                }
+
+                entityManager.persist(new IdempotencyKey(key, requestHash, now, until));
+                entityManager.flush();
+                return null;
+            });
+        } catch (DataIntegrityViolationException | PersistenceException e) {
+            // Another request inserted the key first; it may have finished by now
+            IdempotencyKey existing = transaction.execute(status -> idempotencyKeyRepository.findById(key).orElse(null));
+            return existing != null ? toEntry(existing) : new Entry(requestHash, false, 0, null, null);
+        }
+    }
+
+    // Store the response of a reserved key for its retries
+    void complete(String key, String requestHash, int status, String contentType, String body) {
+        Date until = new Date(System.currentTimeMillis() + ttl.toMillis());
+        Integer updated = transaction.execute(tx -> idempotencyKeyRepository.complete(key, requestHash,
+                KeyStatus.COMPLETED, status, contentType, body, until));
+        if (updated != null && updated > 0) {
+            completed.put(key, new Entry(requestHash, true, status, contentType, body));
+        }
+    }
+
+    // Give up a reserved key without a response, so the next retry runs the request again
+    void release(String key, String requestHash) {
+        transaction.executeWithoutResult(tx -> idempotencyKeyRepository.release(key, requestHash,
+                KeyStatus.IN_PROGRESS));
+    }
+
+    @Scheduled(fixedDelayString = "${voloconnect.idempotency.cleanup-interval:PT10M}")
+    public void deleteExpired() {
+        if (!leaderLock.tryAcquire(LOCK_NAME, Duration.ofMinutes(30))) {
+            return;
+        }
+
+        Integer deleted = transaction.execute(status -> idempotencyKeyRepository.deleteExpired(new Date()));
+        if (deleted != null && deleted > 0) {
+            log.debug("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+
+    private Entry toEntry(IdempotencyKey key) {
+        if (key.getStatus() != KeyStatus.COMPLETED) {
+            return new Entry(key.getRequestHash(), false, 0, null, null);
+        }
+
+        Entry entry = new Entry(key.getRequestHash(), true, key.getResponseStatus(), key.getContentType(),
+                key.getResponseBody());
+        completed.put(key.getIdempotencyKey(), entry);
+        return entry;
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.VoloConnect.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Per-client token buckets on the public write endpoints: volunteer
+ * registration, query submission and event sign-ups.
+ *
+ * Every request draws from the bucket of its client IP; registrations and
+ * queries also draw from the bucket of the email in the body, so one address
+ * cannot be flooded from many IPs. Buckets live in size-bounded caches and
+ * expire once idle, so memory stays bounded however many clients show up.
+ * Behind a proxy, set {@code server.forward-headers-strategy} so the client
+ * IP is taken from X-Forwarded-For.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // Write endpoints open to the public
+    private static final Pattern LIMITED = Pattern.compile("/api/(volunteers|queries|events/\\d+/volunteers(/bulk)?)/?");
+
+    // Of those, the ones whose body carries the submitter's email
+    private static final Pattern WITH_EMAIL = Pattern.compile("/api/(volunteers|queries)/?");
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${voloconnect.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${voloconnect.rate-limit.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${voloconnect.rate-limit.ip.per-minute:60}")
+    private int ipPerMinute;
+
+    @Value("${voloconnect.rate-limit.email.capacity:3}")
+    private int emailCapacity;
+
+    @Value("${voloconnect.rate-limit.email.per-minute:6}")
+    private int emailPerMinute;
+
+    @Value("${voloconnect.rate-limit.max-clients:100000}")
+    private long maxClients;
+
+    @Value("${voloconnect.rate-limit.idle-expiry:PT10M}")
+    private Duration idleExpiry;
+
+    private Cache<String, TokenBucket> ipBuckets;
+
+    private Cache<String, TokenBucket> emailBuckets;
+
+    @PostConstruct
+    public void createBuckets() {
+        ipBuckets = Caffeine.newBuilder().maximumSize(maxClients).expireAfterAccess(idleExpiry).build();
+        emailBuckets = Caffeine.newBuilder().maximumSize(maxClients).expireAfterAccess(idleExpiry).build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"POST".equals(request.getMethod())
+                || !LIMITED.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.nanoTime();
+        long wait = ipBuckets.get(request.getRemoteAddr(), key -> new TokenBucket(ipCapacity, ipPerMinute))
+                .tryTake(now);
+
+        if (wait == 0 && WITH_EMAIL.matcher(request.getRequestURI()).matches()) {
+            CachedBodyRequest cached = new CachedBodyRequest(request);
+            request = cached;
+            String email = email(cached.getBody());
+            if (email != null) {
+                wait = emailBuckets.get(email, key -> new TokenBucket(emailCapacity, emailPerMinute)).tryTake(now);
+            }
+        }
+
+        if (wait > 0) {
+            meterRegistry.counter("voloconnect.admission", "limiter", "rate", "outcome", "shed").increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfter, "Too many requests; try again later");
+            return;
+        }
+
+        meterRegistry.counter("voloconnect.admission", "limiter", "rate", "outcome", "admitted").increment();
+        filterChain.doFilter(request, response);
+    }
+
+    // Same {"message": ...} shape as ApiExceptionHandler, written before any controller runs
+    void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("message", message));
+    }
+
+    private String email(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() && !email.asText().isBlank()
+                    ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            // Not JSON; the controller will reject it
+            return null;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.VoloConnect.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which replicas may serve reads.
+ *
+ * Every check writes the current time into this instance's replica_heartbeat
+ * row on the primary and reads it back from each replica; the difference is
+ * how far the replica is behind. Each instance only compares its own row with
+ * its own clock, so clock skew between instances does not hide lag. Replicas that lag more than the maximum, or do not
+ * answer, are taken out of rotation until a later check finds them caught up.
+ */
+@Component
+@ConditionalOnProperty(name = "voloconnect.datasource.replica.urls")
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Heartbeat rows of instances gone this long are deleted
+    private static final Duration STALE_HEARTBEAT = Duration.ofDays(1);
+
+    // Identifies this instance's heartbeat row
+    private final String instance = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // A replica that applied the latest write shows no lag, one a write behind shows the check interval,
+    // so this must be longer than the interval
+    @Value("${voloconnect.datasource.replica.max-lag:PT5S}")
+    private Duration maxLag;
+
+    // Last measured lag per replica in milliseconds, -1 when unknown
+    private final Map<String, Long> lagMillis = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerMetrics() {
+        for (String replica : routingDataSource.getReplicas().keySet()) {
+            lagMillis.put(replica, -1L);
+            Gauge.builder("voloconnect.datasource.replica.lag", lagMillis, lags -> {
+                        long lag = lags.getOrDefault(replica, -1L);
+                        return lag < 0 ? Double.NaN : lag / 1000.0;
+                    })
+                    .description("Seconds the replica is behind the primary")
+                    .baseUnit("seconds")
+                    .tag("replica", replica)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("voloconnect.datasource.replica.healthy", routingDataSource,
+                        routing -> routing.getHealthyReplicas().size())
+                .description("Replicas currently serving read-only transactions")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${voloconnect.datasource.replica.check-interval:PT1S}")
+    public void check() {
+        long now = System.currentTimeMillis();
+        try {
+            beat(now);
+        } catch (DataAccessException e) {
+            log.warn("Could not write the replica heartbeat", e);
+        }
+
+        List<String> healthy = new ArrayList<>();
+        routingDataSource.getReplicas().forEach((replica, dataSource) -> {
+            long lag = lag(new JdbcTemplate(dataSource), now);
+            lagMillis.put(replica, lag);
+            if (lag >= 0 && lag <= maxLag.toMillis()) {
+                healthy.add(replica);
+            }
+        });
+
+        if (!healthy.equals(routingDataSource.getHealthyReplicas())) {
+            log.info("Replicas serving reads: {} (lag in ms: {})", healthy, lagMillis);
+        }
+        routingDataSource.setHealthyReplicas(healthy);
+    }
+
+    private void beat(long now) {
+        JdbcTemplate primary = new JdbcTemplate(routingDataSource.getPrimary());
+        if (primary.update("update replica_heartbeat set beat_millis = ? where instance = ?", now, instance) == 0) {
+            primary.update("insert into replica_heartbeat (instance, beat_millis) values (?, ?)", instance, now);
+        }
+    }
+
+    // Milliseconds the replica's heartbeat is behind, or -1 if it cannot be read
+    private long lag(JdbcTemplate replica, long now) {
+        try {
+            List<Long> beats = replica.queryForList("select beat_millis from replica_heartbeat where instance = ?",
+                    Long.class, instance);
+            return beats.isEmpty() ? -1 : Math.max(0, now - beats.get(0));
+        } catch (DataAccessException e) {
+            log.debug("Replica heartbeat check failed", e);
+            return -1;
+        }
+    }
+
+    String getInstance() {
+        return instance;
+    }
+
+    // Rows of instances that stopped without removing theirs
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void deleteStaleHeartbeats() {
+        try {
+            new JdbcTemplate(routingDataSource.getPrimary()).update(
+                    "delete from replica_heartbeat where beat_millis < ?",
+                    System.currentTimeMillis() - STALE_HEARTBEAT.toMillis());
+        } catch (DataAccessException e) {
+            log.debug("Could not delete stale replica heartbeats", e);
+        }
+    }
+
+    @PreDestroy
+    public void deleteHeartbeat() {
+        try {
+            new JdbcTemplate(routingDataSource.getPrimary())
+                    .update("delete from replica_heartbeat where instance = ?", instance);
+        } catch (DataAccessException e) {
+            log.debug("Could not delete the replica heartbeat", e);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
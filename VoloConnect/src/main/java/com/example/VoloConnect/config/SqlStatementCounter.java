@@ -0,0 +1,66 @@
+package com.example.VoloConnect.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so
+ * SqlStatementMetricsFilter can report them per request.
+ *
+ * Identical statements are counted together; many repeats of one statement
+ * within a request is the usual sign of an N+1 query.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    // Distinct statements tracked per request; any further ones are still counted in the total
+    private static final int MAX_DISTINCT = 256;
+
+    private static final ThreadLocal<Counts> COUNTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Counts counts = COUNTS.get();
+        if (counts != null) {
+            counts.total++;
+            if (counts.byStatement.size() < MAX_DISTINCT || counts.byStatement.containsKey(sql)) {
+                counts.byStatement.merge(sql, 1, Integer::sum);
+            }
+        }
+        return sql;
+    }
+
+    // Start counting on this thread
+    public static void start() {
+        COUNTS.set(new Counts());
+    }
+
+    // Stop counting on this thread and return what was counted
+    public static Counts stop() {
+        Counts counts = COUNTS.get();
+        COUNTS.remove();
+        return counts != null ? counts : new Counts();
+    }
+
+    public static final class Counts {
+
+        private int total;
+        private final Map<String, Integer> byStatement = new HashMap<>();
+
+        public int getTotal() {
+            return total;
+        }
+
+        // The statement issued most often, or null if there was none
+        public Map.Entry<String, Integer> getMostRepeated() {
+            Map.Entry<String, Integer> most = null;
+            for (Map.Entry<String, Integer> entry : byStatement.entrySet()) {
+                if (most == null || entry.getValue() > most.getValue()) {
+                    most = entry;
+                }
+            }
+            return most;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.VoloConnect.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Records how many SQL statements each request issued, tagged by route, and
+ * flags requests above {@code voloconnect.metrics.sql-warn-threshold} as
+ * likely N+1 queries.
+ */
+@Component
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${voloconnect.metrics.sql-warn-threshold:20}")
+    private int warnThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.Counts counts = SqlStatementCounter.stop();
+            record(request, counts);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter.Counts counts) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("voloconnect.http.sql.statements")
+                .description("SQL statements issued per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(counts.getTotal());
+
+        if (counts.getTotal() > warnThreshold) {
+            meterRegistry.counter("voloconnect.http.sql.flagged", "method", request.getMethod(), "uri", uri)
+                    .increment();
+
+            Map.Entry<String, Integer> mostRepeated = counts.getMostRepeated();
+            String sql = mostRepeated.getKey();
+            if (sql.length() > MAX_LOGGED_SQL_LENGTH) {
+                sql = sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+            }
+            log.warn("Possible N+1: {} {} issued {} SQL statements; most repeated ({}x): {}",
+                    request.getMethod(), request.getRequestURI(), counts.getTotal(), mostRepeated.getValue(), sql);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.VoloConnect.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket kept as a single timestamp (the generic cell rate algorithm):
+ * the time at which the bucket would be full again. Taking a token pushes that
+ * time one refill interval further; a take is refused when it would lie more
+ * than a full bucket ahead of now. One compare-and-set per take, no locks.
+ */
+final class TokenBucket {
+
+    private final long refillNanos;
+
+    private final long burstNanos;
+
+    private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(int capacity, int refillPerMinute) {
+        this.refillNanos = 60_000_000_000L / refillPerMinute;
+        this.burstNanos = refillNanos * capacity;
+    }
+
+    // Take a token; returns 0 if one was taken, otherwise the nanos until the next one is available
+    long tryTake(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + refillNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.VoloConnect.controllers;
+
+import com.example.VoloConnect.dto.Dashboard;
+import com.example.VoloConnect.services.DashboardService;
+import com.example.VoloConnect.services.EventTimelineService;
+import com.example.VoloConnect.services.RecommendationService;
+import com.example.VoloConnect.services.SearchService;
+import com.example.VoloConnect.services.VolunteerManagementService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    @Autowired
+    private EventTimelineService eventTimelineService;
+    
+    @Autowired
+    private SearchService searchService;
+    
+    @Autowired
+    private RecommendationService recommendationService;
+    
+    @Autowired
+    private DashboardService dashboardService;
+    
+    @Autowired
+    private VolunteerManagementService volunteerManagementService;
+
+    // Force a full reload of the upcoming-events timeline
+    @PostMapping("/timeline/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildTimeline() {
+        int events = eventTimelineService.rebuild();
+        return ResponseEntity.ok(Map.of("events", events));
+    }
+
+    // Rebuild the full-text index from the database, e.g. after restoring a backup
+    @PostMapping("/search/reindex")
+    public ResponseEntity<Void> reindexSearch() throws InterruptedException {
+        searchService.reindex();
+        return ResponseEntity.noContent().build();
+    }
+
+    // Reload the volunteer features used for recommendations without waiting for the schedule
+    @PostMapping("/recommendations/refresh")
+    public ResponseEntity<Map<String, Object>> refreshRecommendations() {
+        int volunteers = recommendationService.refresh();
+        return ResponseEntity.ok(Map.of("volunteers", volunteers));
+    }
+
+    // Recount the dashboard counters from the tables without waiting for the nightly run
+    @PostMapping("/dashboard/reconcile")
+    public Dashboard reconcileDashboard() {
+        return dashboardService.reconcile();
+    }
+
+    // Rebuild volunteer_availability from the volunteers' availability text
+    @PostMapping("/volunteers/availability/backfill")
+    public ResponseEntity<Map<String, Object>> backfillAvailability() {
+        int volunteers = volunteerManagementService.backfillAvailability();
+        return ResponseEntity.ok(Map.of("volunteers", volunteers));
+    }
+
+    // Rebuild volunteer_skills from the volunteers' skills text
+    @PostMapping("/volunteers/skills/backfill")
+    public ResponseEntity<Map<String, Object>> backfillSkills() {
+        int volunteers = volunteerManagementService.backfillSkills();
+        return ResponseEntity.ok(Map.of("volunteers", volunteers));
+    }
+}
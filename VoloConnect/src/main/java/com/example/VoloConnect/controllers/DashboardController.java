@@ -0,0 +1,30 @@
+package com.example.VoloConnect.controllers;
+
+import com.example.VoloConnect.dto.Dashboard;
+import com.example.VoloConnect.services.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    // All dashboard aggregates in one response, read from the materialized counters
+    @GetMapping
+    public Dashboard getDashboard() {
+        return dashboardService.getDashboard();
+    }
+
+    @GetMapping("/volunteers/{volunteerId}")
+    public Map<String, Object> getVolunteerCounts(@PathVariable Long volunteerId) {
+        return Map.of("volunteerId", volunteerId, "assignments", dashboardService.getVolunteerAssignments(volunteerId));
+    }
+}
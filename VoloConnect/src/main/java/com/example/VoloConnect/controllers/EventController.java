@@ -0,0 +1,161 @@
+package com.example.VoloConnect.controllers;
+
+import com.example.VoloConnect.dto.AssignVolunteerRequest;
+import com.example.VoloConnect.dto.AssignmentResult;
+import com.example.VoloConnect.dto.Recommendations;
+import com.example.VoloConnect.dto.RosterEntry;
+import com.example.VoloConnect.dto.TimelineEntry;
+import com.example.VoloConnect.dto.VolunteerRecommendation;
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Event.EventStatus;
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.services.EventManagementService;
+import com.example.VoloConnect.services.EventService;
+import com.example.VoloConnect.services.EventTimelineService;
+import com.example.VoloConnect.services.RecommendationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/events")
+public class EventController {
+
+    @Autowired
+    private EventService eventService;
+    
+    @Autowired
+    private EventManagementService eventManagementService;
+    
+    @Autowired
+    private EventTimelineService eventTimelineService;
+    
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @GetMapping
+    public List<Event> getEvents(@RequestParam(required = false) EventStatus status,
+                                 @RequestParam(required = false) String search) {
+        return eventService.getEvents(status, search);
+    }
+
+    @GetMapping("/upcoming")
+    public List<TimelineEntry> getUpcomingEvents(@RequestParam(defaultValue = "20") int limit) {
+        return eventTimelineService.getNextEvents(limit);
+    }
+
+    @GetMapping("/with-free-seats")
+    public List<TimelineEntry> getEventsWithFreeSeats(@RequestParam(defaultValue = "20") int limit) {
+        return eventTimelineService.getEventsWithFreeSeats(limit);
+    }
+
+    @GetMapping("/window")
+    public List<TimelineEntry> getEventsBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        return eventTimelineService.getEventsBetween(from, to);
+    }
+
+    @GetMapping("/{eventId}")
+    public Event getEvent(@PathVariable Long eventId) {
+        return eventService.getEvent(eventId);
+    }
+
+    @PostMapping
+    public ResponseEntity<Event> createEvent(@RequestBody Event event) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(eventService.createEvent(event));
+    }
+
+    @PutMapping("/{eventId}")
+    public Event updateEvent(@PathVariable Long eventId, @RequestBody Event changes) {
+        return eventService.updateEvent(eventId, changes);
+    }
+
+    @DeleteMapping("/{eventId}")
+    public ResponseEntity<Void> deleteEvent(@PathVariable Long eventId) {
+        eventService.deleteEvent(eventId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{eventId}/volunteers")
+    public List<Volunteer> getEventVolunteers(@PathVariable Long eventId) {
+        return eventManagementService.getEventVolunteers(eventId);
+    }
+
+    @GetMapping("/{eventId}/volunteers/count")
+    public Map<String, Object> getEventVolunteerCount(@PathVariable Long eventId) {
+        Event event = eventService.getEvent(eventId);
+        return Map.of("count", event.getAssignedCount(), "capacity", event.getCapacity());
+    }
+
+    @GetMapping("/{eventId}/roster")
+    public List<RosterEntry> getEventRoster(@PathVariable Long eventId) {
+        return eventManagementService.getEventRoster(eventId);
+    }
+
+    // A ranking cut short by the latency budget is flagged with X-Partial-Ranking: true
+    @GetMapping("/{eventId}/recommendations")
+    public ResponseEntity<List<VolunteerRecommendation>> getRecommendations(
+            @PathVariable Long eventId, @RequestParam(defaultValue = "10") int limit) {
+        Recommendations recommendations = recommendationService.recommendVolunteers(eventId, limit);
+        return ResponseEntity.ok()
+                .header("X-Partial-Ranking", Boolean.toString(recommendations.partial()))
+                .body(recommendations.volunteers());
+    }
+
+    @PostMapping("/{eventId}/volunteers")
+    public ResponseEntity<Map<String, Object>> assignVolunteer(@PathVariable Long eventId,
+                                                               @RequestBody AssignVolunteerRequest request) {
+        if (request.volunteerId() == null) {
+            throw new IllegalArgumentException("volunteerId is required");
+        }
+        
+        Long assignmentId = eventManagementService.assignVolunteer(eventId, request.volunteerId(), request.role());
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", assignmentId));
+    }
+
+    @PostMapping("/{eventId}/volunteers/bulk")
+    public List<AssignmentResult> assignVolunteers(@PathVariable Long eventId,
+                                                   @RequestBody List<AssignVolunteerRequest> requests) {
+        // Keep the request order: later volunteers are the ones reported as EVENT_FULL
+        Map<Long, String> rolesByVolunteer = new LinkedHashMap<>();
+        for (AssignVolunteerRequest request : requests) {
+            if (request.volunteerId() == null) {
+                throw new IllegalArgumentException("volunteerId is required");
+            }
+            if (rolesByVolunteer.containsKey(request.volunteerId())) {
+                throw new IllegalArgumentException("Duplicate volunteerId: " + request.volunteerId());
+            }
+            rolesByVolunteer.put(request.volunteerId(), request.role());
+        }
+        return eventManagementService.assignVolunteers(eventId, rolesByVolunteer);
+    }
+
+    @PutMapping("/{eventId}/volunteers/{volunteerId}")
+    public ResponseEntity<Void> updateVolunteerRole(@PathVariable Long eventId, @PathVariable Long volunteerId,
+                                                    @RequestBody Map<String, String> body) {
+        boolean updated = eventManagementService.updateVolunteerRole(eventId, volunteerId, body.get("role"));
+        return updated ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @DeleteMapping("/{eventId}/volunteers/{volunteerId}")
+    public ResponseEntity<Void> removeVolunteer(@PathVariable Long eventId, @PathVariable Long volunteerId) {
+        boolean removed = eventManagementService.removeVolunteer(eventId, volunteerId);
+        return removed ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.VoloConnect.controllers;
+
+import com.example.VoloConnect.dto.ExportFormat;
+import com.example.VoloConnect.services.EventService;
+import com.example.VoloConnect.services.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+// Downloads are written while the rows are read, so the response never holds the full result
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+    
+    @Autowired
+    private EventService eventService;
+
+    @GetMapping("/volunteers")
+    public ResponseEntity<StreamingResponseBody> exportVolunteers(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = parseFormat(format);
+        return download("volunteers", exportFormat, out -> exportService.exportVolunteers(exportFormat, out));
+    }
+
+    @GetMapping("/events/{eventId}/roster")
+    public ResponseEntity<StreamingResponseBody> exportRoster(@PathVariable Long eventId,
+                                                              @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = parseFormat(format);
+        // Fail with 404 before the response is committed
+        eventService.getEvent(eventId);
+        return download("event-" + eventId + "-roster", exportFormat,
+                out -> exportService.exportRoster(eventId, exportFormat, out));
+    }
+
+    @GetMapping("/queries")
+    public ResponseEntity<StreamingResponseBody> exportQueries(@RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = parseFormat(format);
+        return download("queries", exportFormat, out -> exportService.exportQueries(exportFormat, out));
+    }
+    
+    private static ExportFormat parseFormat(String format) {
+        try {
+            return ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+    }
+    
+    private static ResponseEntity<StreamingResponseBody> download(String name, ExportFormat format,
+                                                                  StreamingResponseBody body) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.VoloConnect.controllers;
+
+import com.example.VoloConnect.models.ImportJob;
+import com.example.VoloConnect.models.ImportRowError;
+import com.example.VoloConnect.services.VolunteerImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+
+    @Autowired
+    private VolunteerImportService volunteerImportService;
+
+    // Accepts a multipart upload; the import runs in the background, poll the job for progress
+    @PostMapping(value = "/volunteers", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJob> importVolunteers(@RequestPart("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+        
+        try (InputStream csv = file.getInputStream()) {
+            ImportJob job = volunteerImportService.startImport(file.getOriginalFilename(), csv);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ImportJob getJob(@PathVariable Long jobId) {
+        return volunteerImportService.getJob(jobId);
+    }
+
+    @GetMapping("/jobs/{jobId}/errors")
+    public List<ImportRowError> getErrors(@PathVariable Long jobId, @RequestParam(defaultValue = "100") int limit) {
+        return volunteerImportService.getErrors(jobId, limit);
+    }
+
+    @PostMapping("/jobs/{jobId}/resume")
+    public ResponseEntity<ImportJob> resumeImport(@PathVariable Long jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(volunteerImportService.resumeImport(jobId));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.VoloConnect.controllers;
+
+import com.example.VoloConnect.dto.KeysetPage;
+import com.example.VoloConnect.dto.QueryResponseRequest;
+import com.example.VoloConnect.dto.QuerySummary;
+import com.example.VoloConnect.models.Query;
+import com.example.VoloConnect.models.Query.QueryStatus;
+import com.example.VoloConnect.services.QueryInboxService;
+import com.example.VoloConnect.services.QueryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/queries")
+public class QueryController {
+
+    @Autowired
+    private QueryService queryService;
+    
+    @Autowired
+    private QueryInboxService queryInboxService;
+
+    @PostMapping
+    public ResponseEntity<Query> submitQuery(@RequestBody Query query) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(queryService.submitQuery(query));
+    }
+
+    // Summaries only: the message and response bodies are loaded per query by GET /{queryId}
+    @GetMapping
+    public KeysetPage<QuerySummary> getQueries(@RequestParam(required = false) QueryStatus status,
+                                               @RequestParam(required = false) Long before,
+                                               @RequestParam(defaultValue = "50") int limit) {
+        return queryInboxService.getInbox(status, before, limit);
+    }
+
+    @GetMapping("/inbox")
+    public KeysetPage<QuerySummary> getInbox(@RequestParam(defaultValue = "PENDING") QueryStatus status,
+                                             @RequestParam(required = false) Long before,
+                                             @RequestParam(defaultValue = "50") int limit) {
+        return queryInboxService.getInbox(status, before, limit);
+    }
+
+    @GetMapping("/{queryId}")
+    public Query getQuery(@PathVariable Long queryId) {
+        return queryService.getQuery(queryId);
+    }
+
+    @PutMapping("/{queryId}")
+    public Query respondToQuery(@PathVariable Long queryId, @RequestBody QueryResponseRequest request) {
+        return queryService.respondToQuery(queryId, request.response(), request.status());
+    }
+
+    @DeleteMapping("/{queryId}")
+    public ResponseEntity<Void> deleteQuery(@PathVariable Long queryId) {
+        queryService.deleteQuery(queryId);
+        return ResponseEntity.noContent().build();
+    }
+}
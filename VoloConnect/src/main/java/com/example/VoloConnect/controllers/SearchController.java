@@ -0,0 +1,33 @@
+package com.example.VoloConnect.controllers;
+
+import com.example.VoloConnect.dto.QuerySummary;
+import com.example.VoloConnect.dto.SearchPage;
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.services.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping("/events")
+    public SearchPage<Event> searchEvents(@RequestParam("q") String text,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "20") int size) {
+        return searchService.searchEvents(text, page, size);
+    }
+
+    @GetMapping("/queries")
+    public SearchPage<QuerySummary> searchQueries(@RequestParam("q") String text,
+                                                  @RequestParam(defaultValue = "0") int page,
+                                                  @RequestParam(defaultValue = "20") int size) {
+        return searchService.searchQueries(text, page, size);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.VoloConnect.controllers;
+
+import com.example.VoloConnect.dto.KeysetPage;
+import com.example.VoloConnect.dto.VolunteerAssignment;
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
+import com.example.VoloConnect.services.EventManagementService;
+import com.example.VoloConnect.services.VolunteerManagementService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/volunteers")
+public class VolunteerController {
+
+    @Autowired
+    private VolunteerManagementService volunteerManagementService;
+    
+    @Autowired
+    private EventManagementService eventManagementService;
+
+    @PostMapping
+    public ResponseEntity<Volunteer> registerVolunteer(@RequestBody Volunteer volunteer) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(volunteerManagementService.registerVolunteer(volunteer));
+    }
+
+    @GetMapping("/search")
+    public KeysetPage<Volunteer> searchVolunteers(@RequestParam(required = false) String skills,
+                                                  @RequestParam(required = false) String availability,
+                                                  @RequestParam(required = false) String status,
+                                                  @RequestParam(required = false) Long after,
+                                                  @RequestParam(defaultValue = "50") int limit) {
+        Map<String, String> criteria = new HashMap<>();
+        if (skills != null) {
+            criteria.put("skills", skills);
+        }
+        if (availability != null) {
+            criteria.put("availability", availability);
+        }
+        if (status != null) {
+            criteria.put("status", status);
+        }
+        
+        Slice<Volunteer> slice = volunteerManagementService.searchVolunteers(criteria, after, limit);
+        Long nextCursor = slice.hasNext() ? slice.getContent().get(slice.getNumberOfElements() - 1).getId() : null;
+        return new KeysetPage<>(slice.getContent(), slice.hasNext(), nextCursor);
+    }
+
+    @GetMapping("/by-skills")
+    public List<Volunteer> findVolunteersBySkills(@RequestParam List<String> skills,
+                                                  @RequestParam(defaultValue = "all") String match) {
+        return volunteerManagementService.findVolunteersBySkills(skills, !"any".equalsIgnoreCase(match));
+    }
+
+    @GetMapping("/available")
+    public List<Long> findAvailableVolunteers(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date start,
+            @RequestParam(defaultValue = "120") int duration) {
+        return volunteerManagementService.findAvailableVolunteerIds(start, duration);
+    }
+
+    @GetMapping("/{volunteerId}")
+    public ResponseEntity<Volunteer> getVolunteer(@PathVariable Long volunteerId) {
+        Volunteer volunteer = volunteerManagementService.getVolunteer(volunteerId);
+        // Clients send the version back as If-Match on the updates below
+        return ResponseEntity.ok().eTag("\"" + volunteer.getVersion() + "\"").body(volunteer);
+    }
+
+    @PutMapping("/{volunteerId}/profile")
+    public ResponseEntity<Void> updateProfile(@PathVariable Long volunteerId,
+                                              @RequestBody Map<String, String> profileData,
+                                              @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        volunteerManagementService.updateProfile(volunteerId, profileData, parseVersion(ifMatch));
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{volunteerId}/skills")
+    public ResponseEntity<Void> updateSkills(@PathVariable Long volunteerId, @RequestBody Map<String, String> body,
+                                             @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        volunteerManagementService.updateSkills(volunteerId, body.get("skills"), parseVersion(ifMatch));
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{volunteerId}/availability")
+    public ResponseEntity<Void> updateAvailability(@PathVariable Long volunteerId,
+                                                   @RequestBody Map<String, String> body,
+                                                   @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        volunteerManagementService.updateAvailability(volunteerId, body.get("availability"), parseVersion(ifMatch));
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{volunteerId}/status")
+    public ResponseEntity<Void> updateStatus(@PathVariable Long volunteerId, @RequestBody Map<String, String> body,
+                                             @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        String status = body.get("status");
+        if (status == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        
+        volunteerManagementService.updateStatus(volunteerId, VolunteerStatus.valueOf(status.toUpperCase()),
+                parseVersion(ifMatch));
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{volunteerId}/stats")
+    public Map<String, Object> getVolunteerStats(@PathVariable Long volunteerId) {
+        return volunteerManagementService.getVolunteerStats(volunteerId);
+    }
+
+    @GetMapping("/{volunteerId}/events")
+    public List<Event> getVolunteerEvents(@PathVariable Long volunteerId) {
+        return eventManagementService.getVolunteerEvents(volunteerId);
+    }
+
+    @GetMapping("/{volunteerId}/assignments")
+    public List<VolunteerAssignment> getVolunteerAssignments(@PathVariable Long volunteerId) {
+        return eventManagementService.getVolunteerAssignments(volunteerId);
+    }
+
+    // If-Match carries the ETag from GET /{volunteerId}, e.g. "3" or W/"3"; no header means no check
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must be an ETag returned by this API");
+        }
+    }
+}
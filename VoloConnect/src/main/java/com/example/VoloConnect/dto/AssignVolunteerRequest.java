@@ -0,0 +1,7 @@
+package com.example.VoloConnect.dto;
+
+/**
+ * Request body for assigning a volunteer to an event.
+ */
+public record AssignVolunteerRequest(Long volunteerId, String role) {
+}
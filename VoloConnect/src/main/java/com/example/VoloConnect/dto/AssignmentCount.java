@@ -0,0 +1,8 @@
+package com.example.VoloConnect.dto;
+
+/**
+ * Number of event assignments of one volunteer, as loaded for the dashboard
+ * counters.
+ */
+public record AssignmentCount(Long volunteerId, Long assignments) {
+}
@@ -0,0 +1,15 @@
+package com.example.VoloConnect.dto;
+
+/**
+ * Outcome of assigning one volunteer during a bulk roster assignment.
+ *
+ * @param volunteerId the ID of the volunteer
+ * @param status what happened to this volunteer
+ * @param assignmentId the ID of the created event-volunteer association, or null if none was created
+ */
+public record AssignmentResult(Long volunteerId, Status status, Long assignmentId) {
+
+    public enum Status {
+        ASSIGNED, ALREADY_ASSIGNED, VOLUNTEER_NOT_FOUND, EVENT_FULL
+    }
+}
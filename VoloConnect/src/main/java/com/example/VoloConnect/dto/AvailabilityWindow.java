@@ -0,0 +1,106 @@
+package com.example.VoloConnect.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A time window in which a volunteer is available: either every week on a day
+ * ({@code dayOfWeek}) or on one calendar date ({@code date}).
+ *
+ * @param dayOfWeek the weekday of a weekly window, or null for a dated window
+ * @param date the calendar date of a dated window, or null for a weekly window
+ * @param startMinute the start as minutes after midnight (inclusive)
+ * @param endMinute the end as minutes after midnight (exclusive, at most 1440)
+ */
+public record AvailabilityWindow(DayOfWeek dayOfWeek, LocalDate date, int startMinute, int endMinute) {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final Pattern ENTRY = Pattern.compile(
+            "^\\s*([A-Za-z]+|\\d{4}-\\d{2}-\\d{2})(?:\\s+(\\d{1,2}):(\\d{2})\\s*-\\s*(\\d{1,2}):(\\d{2}))?\\s*$");
+
+    public AvailabilityWindow {
+        if ((dayOfWeek == null) == (date == null)) {
+            throw new IllegalArgumentException("Exactly one of dayOfWeek and date must be set");
+        }
+        if (startMinute < 0 || endMinute > MINUTES_PER_DAY || startMinute >= endMinute) {
+            throw new IllegalArgumentException("Invalid time range " + startMinute + "-" + endMinute);
+        }
+    }
+
+    /**
+     * Parse the structured parts of a free-text availability string.
+     *
+     * Entries are separated by ';', ',' or new lines and look like
+     * {@code "Sat 10:00-14:00"}, {@code "weekdays 18:00-21:00"},
+     * {@code "2026-11-01 09:00-17:00"} or just {@code "weekends"} (whole day).
+     * Entries that do not follow this form are ignored, so descriptive text
+     * can stay in the same string.
+     */
+    public static List<AvailabilityWindow> parse(String availability) {
+        List<AvailabilityWindow> windows = new ArrayList<>();
+        if (availability == null) {
+            return windows;
+        }
+        
+        for (String entry : availability.split("[;,\\n]")) {
+            Matcher matcher = ENTRY.matcher(entry);
+            if (!matcher.matches()) {
+                continue;
+            }
+            
+            int start = 0;
+            int end = MINUTES_PER_DAY;
+            if (matcher.group(2) != null) {
+                start = Integer.parseInt(matcher.group(2)) * 60 + Integer.parseInt(matcher.group(3));
+                end = Integer.parseInt(matcher.group(4)) * 60 + Integer.parseInt(matcher.group(5));
+                if (start >= end || end > MINUTES_PER_DAY) {
+                    continue;
+                }
+            }
+            
+            String when = matcher.group(1);
+            if (Character.isDigit(when.charAt(0))) {
+                try {
+                    windows.add(new AvailabilityWindow(null, LocalDate.parse(when), start, end));
+                } catch (DateTimeParseException e) {
+                    // Not a real date; treat it as free text
+                }
+                continue;
+            }
+            
+            for (DayOfWeek day : days(when.toLowerCase(Locale.ROOT))) {
+                windows.add(new AvailabilityWindow(day, null, start, end));
+            }
+        }
+        return windows;
+    }
+
+    private static Set<DayOfWeek> days(String word) {
+        switch (word) {
+            case "weekdays":
+                return EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+            case "weekends":
+            case "weekend":
+                return EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+            case "daily":
+                return EnumSet.allOf(DayOfWeek.class);
+            default:
+                for (DayOfWeek day : DayOfWeek.values()) {
+                    String name = day.name().toLowerCase(Locale.ROOT);
+                    if (name.equals(word) || (word.length() >= 3 && name.startsWith(word))) {
+                        return EnumSet.of(day);
+                    }
+                }
+                return EnumSet.noneOf(DayOfWeek.class);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.VoloConnect.dto;
+
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Admin dashboard aggregates, served from the dashboard counters. Totals are
+ * the sums of the per-status counts.
+ */
+public record Dashboard(long volunteers, Map<String, Long> volunteersByStatus,
+                        long events, Map<String, Long> eventsByStatus,
+                        long queries, Map<String, Long> queriesByStatus,
+                        long assignments, Date refreshedAt) {
+}
@@ -0,0 +1,27 @@
+package com.example.VoloConnect.dto;
+
+/**
+ * Output formats of the streaming exports.
+ */
+public enum ExportFormat {
+    
+    CSV("text/csv", "csv"),
+    // One JSON object per line
+    NDJSON("application/x-ndjson", "ndjson");
+    
+    private final String contentType;
+    private final String extension;
+    
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getExtension() {
+        return extension;
+    }
+}
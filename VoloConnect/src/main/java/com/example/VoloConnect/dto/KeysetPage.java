@@ -0,0 +1,13 @@
+package com.example.VoloConnect.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ *
+ * @param content the items of this page
+ * @param hasNext whether another page follows
+ * @param nextCursor the cursor to pass to fetch the next page, or null if there is none
+ */
+public record KeysetPage<T>(List<T> content, boolean hasNext, Long nextCursor) {
+}
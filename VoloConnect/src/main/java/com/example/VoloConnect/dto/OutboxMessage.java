@@ -0,0 +1,17 @@
+package com.example.VoloConnect.dto;
+
+import com.example.VoloConnect.models.OutboxEvent.EventType;
+
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * A domain event as handed to outbox sinks and published to in-process
+ * listeners. Delivery is at least once, so consumers should use {@code id} to
+ * drop repeats.
+ *
+ * @param aggregateId the ID of the event or query the change belongs to
+ * @param payload the details of the change, e.g. volunteer email and event title
+ */
+public record OutboxMessage(Long id, EventType type, Long aggregateId, Map<String, Object> payload, Date createdAt) {
+}
@@ -0,0 +1,9 @@
+package com.example.VoloConnect.dto;
+
+import com.example.VoloConnect.models.Query.QueryStatus;
+
+/**
+ * Request body for responding to a support query.
+ */
+public record QueryResponseRequest(String response, QueryStatus status) {
+}
@@ -0,0 +1,11 @@
+package com.example.VoloConnect.dto;
+
+import com.example.VoloConnect.models.Query.QueryStatus;
+
+import java.util.Date;
+
+/**
+ * Inbox row for a support query, without the message and response bodies.
+ */
+public record QuerySummary(Long id, String name, String email, String subject, QueryStatus status, Date createdAt) {
+}
@@ -0,0 +1,12 @@
+package com.example.VoloConnect.dto;
+
+import java.util.List;
+
+/**
+ * The recommended volunteers for an event.
+ *
+ * @param volunteers the recommended volunteers, best first
+ * @param partial whether scoring stopped at the latency budget before every volunteer was scored
+ */
+public record Recommendations(List<VolunteerRecommendation> volunteers, boolean partial) {
+}
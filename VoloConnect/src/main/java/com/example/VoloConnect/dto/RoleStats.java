@@ -0,0 +1,8 @@
+package com.example.VoloConnect.dto;
+
+/**
+ * Assignment counts of one volunteer for one role, as produced by the
+ * grouped statistics queries on {@code EventVolunteerRepository}.
+ */
+public record RoleStats(Long volunteerId, String role, Long totalEvents, Long completedEvents) {
+}
@@ -0,0 +1,8 @@
+package com.example.VoloConnect.dto;
+
+/**
+ * A roster line with the volunteer's contact details, as exported for
+ * coordinators.
+ */
+public record RosterContact(Long volunteerId, String name, String email, String phone, String role) {
+}
@@ -0,0 +1,7 @@
+package com.example.VoloConnect.dto;
+
+/**
+ * Lightweight roster row: a volunteer assigned to an event and their role.
+ */
+public record RosterEntry(Long volunteerId, String name, String role) {
+}
@@ -0,0 +1,14 @@
+package com.example.VoloConnect.dto;
+
+import java.util.List;
+
+/**
+ * One page of relevance-ranked full-text search hits.
+ *
+ * @param content the hits of this page, best match first
+ * @param totalHits the total number of matching documents
+ * @param page the zero-based page number
+ * @param size the requested page size
+ */
+public record SearchPage<T>(List<T> content, long totalHits, int page, int size) {
+}
@@ -0,0 +1,7 @@
+package com.example.VoloConnect.dto;
+
+/**
+ * One normalized skill of a volunteer, as stored in {@code volunteer_skills}.
+ */
+public record SkillToken(Long volunteerId, String skill) {
+}
@@ -0,0 +1,30 @@
+package com.example.VoloConnect.dto;
+
+import com.example.VoloConnect.models.Event.EventStatus;
+
+import java.util.Date;
+
+/**
+ * Immutable snapshot of the event fields served by the upcoming-events timeline.
+ */
+public record TimelineEntry(Long id, String title, String location, Date date,
+                            Integer capacity, Integer assignedCount, EventStatus status) {
+
+    public TimelineEntry {
+        // Date is mutable; keep a private copy so the snapshot stays immutable
+        date = new Date(date.getTime());
+    }
+
+    @Override
+    public Date date() {
+        return new Date(date.getTime());
+    }
+
+    public boolean hasFreeSeats() {
+        return assignedCount < capacity;
+    }
+
+    public TimelineEntry withAssignedCount(int newAssignedCount) {
+        return new TimelineEntry(id, title, location, date, capacity, newAssignedCount, status);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.VoloConnect.dto;
+
+/**
+ * Assignment counts of one volunteer across all events, as loaded for the
+ * recommendation feature snapshot.
+ */
+public record VolunteerActivity(Long volunteerId, String name, Long completedEvents, Long activeAssignments) {
+}
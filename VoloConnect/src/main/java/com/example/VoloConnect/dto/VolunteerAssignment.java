@@ -0,0 +1,9 @@
+package com.example.VoloConnect.dto;
+
+import java.util.Date;
+
+/**
+ * Lightweight assignment row: an event a volunteer is assigned to and their role.
+ */
+public record VolunteerAssignment(Long eventId, String title, Date date, String role) {
+}
@@ -0,0 +1,15 @@
+package com.example.VoloConnect.dto;
+
+/**
+ * A volunteer suggested for an event, with the features behind the score so a
+ * coordinator can see why the volunteer was picked.
+ *
+ * @param score the weighted score between 0 and 1
+ * @param matchedSkills how many of the skills mentioned by the event the volunteer has
+ * @param available whether the volunteer's structured availability covers the event
+ * @param completedEvents how many completed events the volunteer took part in
+ * @param activeAssignments how many upcoming or ongoing events the volunteer is assigned to
+ */
+public record VolunteerRecommendation(Long volunteerId, String name, double score, int matchedSkills,
+                                      boolean available, int completedEvents, int activeAssignments) {
+}
@@ -0,0 +1,16 @@
+package com.example.VoloConnect.exceptions;
+
+/**
+ * Thrown when a request conflicts with the current state, such as a full event
+ * or a duplicate assignment; mapped to HTTP 409.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.VoloConnect.exceptions;
+
+/**
+ * Thrown when a requested entity does not exist; mapped to HTTP 404.
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
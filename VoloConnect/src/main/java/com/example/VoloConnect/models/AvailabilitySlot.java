@@ -0,0 +1,100 @@
+package com.example.VoloConnect.models;
+
+import com.example.VoloConnect.dto.AvailabilityWindow;
+import jakarta.persistence.*;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "volunteer_availability",
+    indexes = @Index(name = "idx_volunteer_availability_volunteer", columnList = "volunteer_id"))
+public class AvailabilitySlot {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "volunteer_id", nullable = false)
+    private Volunteer volunteer;
+    
+    // Set for weekly windows
+    @Column(name = "day_of_week")
+    @Enumerated(EnumType.STRING)
+    private DayOfWeek dayOfWeek;
+    
+    // Set for one-off dated windows
+    @Column(name = "specific_date")
+    private LocalDate specificDate;
+    
+    // Minutes after midnight, start inclusive and end exclusive
+    @Column(name = "start_minute", nullable = false)
+    private Integer startMinute;
+    
+    @Column(name = "end_minute", nullable = false)
+    private Integer endMinute;
+    
+    public AvailabilitySlot() {
+    }
+    
+    public AvailabilitySlot(Volunteer volunteer, AvailabilityWindow window) {
+        this.volunteer = volunteer;
+        this.dayOfWeek = window.dayOfWeek();
+        this.specificDate = window.date();
+        this.startMinute = window.startMinute();
+        this.endMinute = window.endMinute();
+    }
+    
+    public AvailabilityWindow toWindow() {
+        return new AvailabilityWindow(dayOfWeek, specificDate, startMinute, endMinute);
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Volunteer getVolunteer() {
+        return volunteer;
+    }
+    
+    public void setVolunteer(Volunteer volunteer) {
+        this.volunteer = volunteer;
+    }
+    
+    public DayOfWeek getDayOfWeek() {
+        return dayOfWeek;
+    }
+    
+    public void setDayOfWeek(DayOfWeek dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+    
+    public LocalDate getSpecificDate() {
+        return specificDate;
+    }
+    
+    public void setSpecificDate(LocalDate specificDate) {
+        this.specificDate = specificDate;
+    }
+    
+    public Integer getStartMinute() {
+        return startMinute;
+    }
+    
+    public void setStartMinute(Integer startMinute) {
+        this.startMinute = startMinute;
+    }
+    
+    public Integer getEndMinute() {
+        return endMinute;
+    }
+    
+    public void setEndMinute(Integer endMinute) {
+        this.endMinute = endMinute;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.VoloConnect.models;
+
+import jakarta.persistence.*;
+import java.util.Date;
+
+// A cluster-wide dashboard aggregate, e.g. the number of ACTIVE volunteers; see DashboardCounters
+@Entity
+@Table(name = "dashboard_counters")
+public class DashboardCounter {
+    
+    @Id
+    @Column(length = 64)
+    private String name;
+    
+    @Column(nullable = false)
+    private Long total;
+    
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "updated_at", nullable = false)
+    private Date updatedAt;
+    
+    public DashboardCounter() {
+    }
+    
+    public DashboardCounter(String name, Long total, Date updatedAt) {
+        this.name = name;
+        this.total = total;
+        this.updatedAt = updatedAt;
+    }
+    
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public Long getTotal() {
+        return total;
+    }
+    
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+    
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,21 +1,32 @@
 package com.example.VoloConnect.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "events")
+@EntityListeners(EventTimelineListener.class)
+@Indexed
 public class Event {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @FullTextField
     @Column(nullable = false)
     private String title;
     
+    @FullTextField
     @Column(nullable = false, columnDefinition = "TEXT")
     private String description;
     
@@ -23,17 +34,25 @@ public class Event {
     @Column(nullable = false)
     private Date date;
     
+    @FullTextField
     @Column(nullable = false)
     private String location;
     
     @Column(nullable = false)
     private Integer capacity;
     
+    // Seats taken, maintained atomically by EventRepository.reserveSeat/releaseSeat/addSeats.
+    // Not updatable so saving an event never writes back a stale count over theirs.
+    @Column(name = "assigned_count", nullable = false, updatable = false)
+    private Integer assignedCount = 0;
+    
     @Column
     @Enumerated(EnumType.STRING)
     private EventStatus status = EventStatus.UPCOMING;
     
-    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL)
+    // No cascade: assignments are removed with bulk deletes in EventVolunteerRepository
+    @JsonIgnore
+    @OneToMany(mappedBy = "event")
     private Set<EventVolunteer> eventVolunteers = new HashSet<>();
     
     // Enum for status
@@ -90,6 +109,14 @@ public class Event {
         this.capacity = capacity;
     }
     
+    public Integer getAssignedCount() {
+        return assignedCount;
+    }
+    
+    public void setAssignedCount(Integer assignedCount) {
+        this.assignedCount = assignedCount;
+    }
+    
     public EventStatus getStatus() {
         return status;
     }
@@ -0,0 +1,33 @@
+package com.example.VoloConnect.models;
+
+import com.example.VoloConnect.services.EventTimelineService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+
+/**
+ * Keeps the in-memory event timeline in step with Event writes.
+ * 
+ * Bulk JPQL updates (such as the seat counter) bypass entity listeners and
+ * notify the timeline directly.
+ */
+public class EventTimelineListener {
+
+    // Lazy: the timeline depends on the repositories, which depend on this listener's EntityManagerFactory
+    @Autowired
+    @Lazy
+    private EventTimelineService eventTimelineService;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Event event) {
+        eventTimelineService.onEventChanged(event);
+    }
+
+    @PostRemove
+    public void onRemoved(Event event) {
+        eventTimelineService.onEventRemoved(event.getId());
+    }
+}
@@ -3,18 +3,22 @@ package com.example.VoloConnect.models;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "event_volunteers")
+@Table(name = "event_volunteers",
+    uniqueConstraints = @UniqueConstraint(name = "uk_event_volunteers_event_volunteer",
+            columnNames = {"event_id", "volunteer_id"}))
 public class EventVolunteer {
     
+    // Pooled sequence (table-backed on MySQL) instead of IDENTITY so inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_volunteers_seq")
+    @SequenceGenerator(name = "event_volunteers_seq", sequenceName = "event_volunteers_seq", allocationSize = 50)
     private Long id;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "volunteer_id", nullable = false)
     private Volunteer volunteer;
     
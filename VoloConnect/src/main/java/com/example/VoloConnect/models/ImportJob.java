@@ -0,0 +1,135 @@
+package com.example.VoloConnect.models;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.util.Date;
+
+// Progress of a bulk volunteer import; processedRows only moves when a chunk commits, so it is the resume point
+@Entity
+@Table(name = "import_jobs")
+public class ImportJob {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "file_name")
+    private String fileName;
+    
+    @Column(nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private ImportStatus status = ImportStatus.RUNNING;
+    
+    // Data rows (after the header) handled by committed chunks
+    @Column(name = "processed_rows", nullable = false)
+    private Integer processedRows = 0;
+    
+    @Column(name = "imported_rows", nullable = false)
+    private Integer importedRows = 0;
+    
+    @Column(name = "duplicate_rows", nullable = false)
+    private Integer duplicateRows = 0;
+    
+    @Column(name = "error_rows", nullable = false)
+    private Integer errorRows = 0;
+    
+    @Column(name = "failure_message", length = 1000)
+    private String failureMessage;
+    
+    @CreationTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "created_at", updatable = false)
+    private Date createdAt;
+    
+    @UpdateTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "updated_at")
+    private Date updatedAt;
+    
+    // Enum for status; a RUNNING job whose instance died can be resumed
+    public enum ImportStatus {
+        RUNNING, COMPLETED, FAILED
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getFileName() {
+        return fileName;
+    }
+    
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+    
+    public ImportStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ImportStatus status) {
+        this.status = status;
+    }
+    
+    public Integer getProcessedRows() {
+        return processedRows;
+    }
+    
+    public void setProcessedRows(Integer processedRows) {
+        this.processedRows = processedRows;
+    }
+    
+    public Integer getImportedRows() {
+        return importedRows;
+    }
+    
+    public void setImportedRows(Integer importedRows) {
+        this.importedRows = importedRows;
+    }
+    
+    public Integer getDuplicateRows() {
+        return duplicateRows;
+    }
+    
+    public void setDuplicateRows(Integer duplicateRows) {
+        this.duplicateRows = duplicateRows;
+    }
+    
+    public Integer getErrorRows() {
+        return errorRows;
+    }
+    
+    public void setErrorRows(Integer errorRows) {
+        this.errorRows = errorRows;
+    }
+    
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+    
+    public void setFailureMessage(String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+    
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.VoloConnect.models;
+
+import jakarta.persistence.*;
+
+// A CSV row an import skipped, and why
+@Entity
+@Table(name = "import_row_errors",
+    indexes = @Index(name = "idx_import_row_errors_job_row", columnList = "job_id, csv_row"))
+public class ImportRowError {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+    
+    // 1-based data row number, not counting the header
+    @Column(name = "csv_row", nullable = false)
+    private Integer rowNumber;
+    
+    @Column(nullable = false, length = 500)
+    private String message;
+    
+    public ImportRowError() {
+    }
+    
+    public ImportRowError(Long jobId, Integer rowNumber, String message) {
+        this.jobId = jobId;
+        this.rowNumber = rowNumber;
+        this.message = message;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getJobId() {
+        return jobId;
+    }
+    
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+    
+    public Integer getRowNumber() {
+        return rowNumber;
+    }
+    
+    public void setRowNumber(Integer rowNumber) {
+        this.rowNumber = rowNumber;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.VoloConnect.models;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import java.util.Date;
+
+// A domain event written in the same transaction as the change it describes, delivered later by OutboxRelay
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_status_next_attempt", columnList = "status, next_attempt_at, id")
+})
+public class OutboxEvent {
+    
+    // Pooled sequence so the events of a bulk assignment are inserted in JDBC batches
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false, length = 64)
+    @Enumerated(EnumType.STRING)
+    private EventType type;
+    
+    // ID of the event or query the change belongs to
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+    
+    // JSON object with the details a sink needs, so delivery does not read other tables
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    @Column(nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status = OutboxStatus.PENDING;
+    
+    @Column(nullable = false)
+    private Integer attempts = 0;
+    
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "next_attempt_at", nullable = false)
+    private Date nextAttemptAt;
+    
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+    
+    @CreationTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "created_at", updatable = false)
+    private Date createdAt;
+    
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "delivered_at")
+    private Date deliveredAt;
+    
+    // Enum for event type
+    public enum EventType {
+        VOLUNTEER_ASSIGNED, VOLUNTEER_REMOVED, VOLUNTEER_ROLE_CHANGED, QUERY_RESPONDED
+    }
+    
+    // Enum for status; FAILED events ran out of attempts and are no longer retried
+    public enum OutboxStatus {
+        PENDING, DELIVERED, FAILED
+    }
+    
+    public OutboxEvent() {
+    }
+    
+    public OutboxEvent(EventType type, Long aggregateId, String payload, Date nextAttemptAt) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public EventType getType() {
+        return type;
+    }
+    
+    public void setType(EventType type) {
+        this.type = type;
+    }
+    
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+    
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+    
+    public String getPayload() {
+        return payload;
+    }
+    
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+    
+    public OutboxStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(OutboxStatus status) {
+        this.status = status;
+    }
+    
+    public Integer getAttempts() {
+        return attempts;
+    }
+    
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+    
+    public Date getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+    
+    public void setNextAttemptAt(Date nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+    
+    public String getLastError() {
+        return lastError;
+    }
+    
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+    
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public Date getDeliveredAt() {
+        return deliveredAt;
+    }
+    
+    public void setDeliveredAt(Date deliveredAt) {
+        this.deliveredAt = deliveredAt;
+    }
+}
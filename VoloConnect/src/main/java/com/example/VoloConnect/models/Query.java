@@ -1,9 +1,16 @@
 package com.example.VoloConnect.models;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import java.util.Date;
 
 @Entity
-@Table(name = "queries")
+@Indexed
+@Table(name = "queries", indexes = {
+    @Index(name = "idx_queries_status_id", columnList = "status, id")
+})
 public class Query {
     
     @Id
@@ -16,12 +23,17 @@ public class Query {
     @Column(nullable = false)
     private String email;
     
+    @FullTextField
     @Column(nullable = false)
     private String subject;
     
+    // TEXT columns are loaded on first access (needs bytecode enhancement, see pom.xml)
+    @FullTextField
+    @Basic(fetch = FetchType.LAZY)
     @Column(nullable = false, columnDefinition = "TEXT")
     private String message;
     
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String response;
     
@@ -29,6 +41,11 @@ public class Query {
     @Enumerated(EnumType.STRING)
     private QueryStatus status = QueryStatus.PENDING;
     
+    @CreationTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "created_at", updatable = false)
+    private Date createdAt;
+    
     // Enum for status
     public enum QueryStatus {
         PENDING, RESPONDED, CLOSED
@@ -90,4 +107,12 @@ public class Query {
     public void setStatus(QueryStatus status) {
         this.status = status;
     }
+    
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
 }
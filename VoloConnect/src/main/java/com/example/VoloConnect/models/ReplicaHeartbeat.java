@@ -0,0 +1,34 @@
+package com.example.VoloConnect.models;
+
+import jakarta.persistence.*;
+
+// One row per instance, rewritten on the primary by that instance's ReplicaLagMonitor;
+// how old it is on a replica, by the same instance's clock, is that replica's lag
+@Entity
+@Table(name = "replica_heartbeat")
+public class ReplicaHeartbeat {
+
+    @Id
+    @Column(length = 64)
+    private String instance;
+
+    // Epoch millis of the last write, taken from the writing instance's clock
+    @Column(name = "beat_millis", nullable = false)
+    private Long beatMillis;
+
+    public String getInstance() {
+        return instance;
+    }
+
+    public void setInstance(String instance) {
+        this.instance = instance;
+    }
+
+    public Long getBeatMillis() {
+        return beatMillis;
+    }
+
+    public void setBeatMillis(Long beatMillis) {
+        this.beatMillis = beatMillis;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.VoloConnect.models;
+
+import jakarta.persistence.*;
+import java.util.Date;
+
+// A named lease on a background job, so only one instance sharing the database runs it
+@Entity
+@Table(name = "scheduler_locks")
+public class SchedulerLock {
+    
+    @Id
+    @Column(length = 64)
+    private String name;
+    
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "locked_until", nullable = false)
+    private Date lockedUntil;
+    
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "locked_at", nullable = false)
+    private Date lockedAt;
+    
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+    
+    public SchedulerLock() {
+    }
+    
+    public SchedulerLock(String name, Date lockedUntil, Date lockedAt, String lockedBy) {
+        this.name = name;
+        this.lockedUntil = lockedUntil;
+        this.lockedAt = lockedAt;
+        this.lockedBy = lockedBy;
+    }
+    
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public Date getLockedUntil() {
+        return lockedUntil;
+    }
+    
+    public void setLockedUntil(Date lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+    
+    public Date getLockedAt() {
+        return lockedAt;
+    }
+    
+    public void setLockedAt(Date lockedAt) {
+        this.lockedAt = lockedAt;
+    }
+    
+    public String getLockedBy() {
+        return lockedBy;
+    }
+    
+    public void setLockedBy(String lockedBy) {
+        this.lockedBy = lockedBy;
+    }
+}
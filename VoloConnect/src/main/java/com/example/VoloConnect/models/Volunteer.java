@@ -1,11 +1,20 @@
 package com.example.VoloConnect.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "volunteers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
+@Table(name = "volunteers", indexes = {
+    @Index(name = "idx_volunteers_status_id", columnList = "status, id")
+})
 public class Volunteer {
     
     @Id
@@ -37,7 +46,14 @@ public class Volunteer {
     @Enumerated(EnumType.STRING)
     private VolunteerStatus status = VolunteerStatus.PENDING;
     
-    @OneToMany(mappedBy = "volunteer", cascade = CascadeType.ALL)
+    // Optimistic lock; bumped by every update, including the column-level ones in VolunteerPartialUpdates
+    @Version
+    @Column(nullable = false)
+    private Long version = 0L;
+    
+    // No cascade: assignments are removed with bulk deletes in EventVolunteerRepository
+    @JsonIgnore
+    @OneToMany(mappedBy = "volunteer")
     private Set<EventVolunteer> eventVolunteers = new HashSet<>();
     
     // Enum for status
@@ -125,4 +141,12 @@ public class Volunteer {
     public void setEventVolunteers(Set<EventVolunteer> eventVolunteers) {
         this.eventVolunteers = eventVolunteers;
     }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
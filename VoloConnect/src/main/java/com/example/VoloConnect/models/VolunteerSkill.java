@@ -0,0 +1,82 @@
+package com.example.VoloConnect.models;
+
+import jakarta.persistence.*;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+@Entity
+@Table(name = "volunteer_skills",
+    uniqueConstraints = @UniqueConstraint(name = "uk_volunteer_skills_skill_volunteer",
+            columnNames = {"skill", "volunteer_id"}),
+    indexes = @Index(name = "idx_volunteer_skills_volunteer", columnList = "volunteer_id"))
+public class VolunteerSkill {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "volunteer_id", nullable = false)
+    private Volunteer volunteer;
+    
+    @Column(nullable = false, length = 100)
+    private String skill;
+    
+    public VolunteerSkill() {
+    }
+    
+    public VolunteerSkill(Volunteer volunteer, String skill) {
+        this.volunteer = volunteer;
+        this.skill = skill;
+    }
+    
+    /**
+     * Split a free-form skills string ("First Aid, Cooking; driving") into
+     * normalized lowercase tokens, dropping blanks and duplicates.
+     */
+    public static Set<String> tokenize(String skills) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (skills == null) {
+            return tokens;
+        }
+        
+        for (String part : skills.split("[,;\\n]")) {
+            String token = normalize(part);
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+    
+    public static String normalize(String skill) {
+        String token = skill.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return token.length() > 100 ? token.substring(0, 100) : token;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Volunteer getVolunteer() {
+        return volunteer;
+    }
+    
+    public void setVolunteer(Volunteer volunteer) {
+        this.volunteer = volunteer;
+    }
+    
+    public String getSkill() {
+        return skill;
+    }
+    
+    public void setSkill(String skill) {
+        this.skill = skill;
+    }
+}
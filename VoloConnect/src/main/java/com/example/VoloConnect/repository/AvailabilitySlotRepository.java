@@ -0,0 +1,30 @@
+package com.example.VoloConnect.repository;
+
+import com.example.VoloConnect.models.AvailabilitySlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AvailabilitySlotRepository extends JpaRepository<AvailabilitySlot, Long> {
+    
+    // Find all weekly slots and the dated slots from a given day on
+    @Query("select s from AvailabilitySlot s where s.specificDate is null or s.specificDate >= :from")
+    List<AvailabilitySlot> findCurrent(@Param("from") LocalDate from);
+    
+    // Delete every slot of a volunteer
+    @Modifying
+    @Query("delete from AvailabilitySlot s where s.volunteer.id = :volunteerId")
+    int deleteByVolunteerId(@Param("volunteerId") Long volunteerId);
+    
+    // Delete every slot of the given volunteers
+    @Modifying
+    @Query("delete from AvailabilitySlot s where s.volunteer.id in :volunteerIds")
+    int deleteByVolunteerIds(@Param("volunteerIds") Collection<Long> volunteerIds);
+}
@@ -0,0 +1,24 @@
+package com.example.VoloConnect.repository;
+
+import com.example.VoloConnect.models.DashboardCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, String> {
+    
+    // Add a delta to a counter in place; returns 0 if the counter has no row yet
+    @Modifying
+    @Query("update DashboardCounter c set c.total = c.total + :delta, c.updatedAt = :now where c.name = :name")
+    int add(@Param("name") String name, @Param("delta") long delta, @Param("now") Date now);
+    
+    // Overwrite a counter with a recounted value; returns 0 if the counter has no row yet
+    @Modifying
+    @Query("update DashboardCounter c set c.total = :total, c.updatedAt = :now where c.name = :name")
+    int set(@Param("name") String name, @Param("total") long total, @Param("now") Date now);
+}
@@ -1,19 +1,31 @@
 package com.example.VoloConnect.repository;
 
+import com.example.VoloConnect.dto.TimelineEntry;
 import com.example.VoloConnect.models.Event;
 import com.example.VoloConnect.models.Event.EventStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventSeatCounters {
     
     // Find events by status
     List<Event> findByStatus(EventStatus status);
     
+    // Count events by status
+    long countByStatus(EventStatus status);
+    
     // Find events by date range
     List<Event> findByDateBetween(Date start, Date end);
     
@@ -26,7 +38,47 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     // Find upcoming events (date in the future)
     List<Event> findByDateAfter(Date date);
     
-    // Find events that have capacity available (custom query would be better here)
-    // This is a placeholder as actual capacity check would need more complex logic
-    List<Event> findByCapacityGreaterThan(int minimumCapacity);
+    // Timeline snapshots of non-cancelled events from a given date on
+    @Query("select new com.example.VoloConnect.dto.TimelineEntry(e.id, e.title, e.location, e.date, "
+            + "e.capacity, e.assignedCount, e.status) from Event e "
+            + "where e.status <> :cancelled and e.date >= :from order by e.date, e.id")
+    List<TimelineEntry> findTimelineEntries(@Param("from") Date from, @Param("cancelled") EventStatus cancelled);
+    
+    // Find events that still have free seats, served from the assigned_count counter
+    @Query("select e from Event e where e.assignedCount < e.capacity")
+    List<Event> findWithFreeSeats();
+    
+    // Find an event and lock its row for the rest of the transaction
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Event e where e.id = :eventId")
+    Optional<Event> findByIdForUpdate(@Param("eventId") Long eventId);
+    
+    // Set the seat counter of the given events to their actual number of assignments
+    @Modifying
+    @Query(value = "update events e set e.assigned_count = "
+            + "(select count(*) from event_volunteers ev where ev.event_id = e.id) where e.id in (:ids)",
+            nativeQuery = true)
+    int recountAssigned(@Param("ids") Collection<Long> ids);
+    
+    // Delete those of the given events still in a status; their assignments must be deleted first
+    @Modifying
+    @Query("delete from Event e where e.id in :ids and e.status = :status")
+    int deleteByIds(@Param("ids") Collection<Long> ids, @Param("status") EventStatus status);
+    
+    // Find a batch of IDs of events in a status that started before a given time
+    @Query("select e.id from Event e where e.status = :status and e.date <= :before order by e.id")
+    List<Long> findIdsByStatusAndDateBefore(@Param("status") EventStatus status, @Param("before") Date before,
+                                            Pageable pageable);
+    
+    // The same, locking the rows so none changes status before the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id from Event e where e.status = :status and e.date <= :before order by e.id")
+    List<Long> findIdsByStatusAndDateBeforeForUpdate(@Param("status") EventStatus status,
+                                                     @Param("before") Date before, Pageable pageable);
+    
+    // Move the given events from one status to another; events no longer in the old status are left alone
+    @Modifying
+    @Query("update Event e set e.status = :to where e.id in :ids and e.status = :from")
+    int transitionStatus(@Param("ids") Collection<Long> ids, @Param("from") EventStatus from,
+                         @Param("to") EventStatus to);
 }
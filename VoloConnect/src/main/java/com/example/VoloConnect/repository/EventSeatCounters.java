@@ -0,0 +1,39 @@
+package com.example.VoloConnect.repository;
+
+// Seat counter updates on events, mixed into EventRepository
+public interface EventSeatCounters {
+    
+    /**
+     * Take a seat if the event is not full. The conditional UPDATE also locks
+     * the event row until the transaction ends.
+     * 
+     * @param eventId the ID of the event
+     * @return 1 if a seat was taken, 0 when the event is full or missing
+     */
+    int reserveSeat(Long eventId);
+    
+    /**
+     * Give a seat back after an assignment is removed
+     * 
+     * @param eventId the ID of the event
+     * @return 1 if a seat was given back, 0 when none was taken or the event is missing
+     */
+    int releaseSeat(Long eventId);
+    
+    /**
+     * Take several seats at once; the caller holds the event row lock and has checked they are free
+     * 
+     * @param eventId the ID of the event
+     * @param seats the number of seats to take
+     * @return 1 if the event was updated, 0 if it is missing
+     */
+    int addSeats(Long eventId, int seats);
+    
+    /**
+     * Read an event's seat counter; after one of the updates above, the value this transaction wrote
+     * 
+     * @param eventId the ID of the event
+     * @return the number of seats taken
+     */
+    int findAssignedCount(Long eventId);
+}
@@ -0,0 +1,57 @@
+package com.example.VoloConnect.repository;
+
+import com.example.VoloConnect.models.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+// Plain JDBC so only the changed event leaves the second-level cache; see SecondLevelCache
+class EventSeatCountersImpl implements EventSeatCounters {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int reserveSeat(Long eventId) {
+        return update("update events set assigned_count = assigned_count + 1 "
+                + "where id = ? and assigned_count < capacity", eventId);
+    }
+
+    @Override
+    @Transactional
+    public int releaseSeat(Long eventId) {
+        return update("update events set assigned_count = assigned_count - 1 "
+                + "where id = ? and assigned_count > 0", eventId);
+    }
+
+    @Override
+    @Transactional
+    public int addSeats(Long eventId, int seats) {
+        return update("update events set assigned_count = assigned_count + ? where id = ?", seats, eventId);
+    }
+
+    @Override
+    @Transactional
+    public int findAssignedCount(Long eventId) {
+        Integer assignedCount = jdbcTemplate.queryForObject("select assigned_count from events where id = ?",
+                Integer.class, eventId);
+        return assignedCount == null ? 0 : assignedCount;
+    }
+
+    private int update(String sql, Object... args) {
+        // Pending entity changes go out first, as they would before a JPQL update
+        entityManager.flush();
+        int updated = jdbcTemplate.update(sql, args);
+        Long eventId = (Long) args[args.length - 1];
+        if (updated > 0) {
+            SecondLevelCache.evict(entityManager, Event.class, eventId);
+        }
+        return updated;
+    }
+}
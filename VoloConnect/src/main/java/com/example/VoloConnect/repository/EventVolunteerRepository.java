@@ -1,13 +1,27 @@
 package com.example.VoloConnect.repository;
 
+import com.example.VoloConnect.dto.AssignmentCount;
+import com.example.VoloConnect.dto.RoleStats;
+import com.example.VoloConnect.dto.RosterContact;
+import com.example.VoloConnect.dto.RosterEntry;
+import com.example.VoloConnect.dto.VolunteerAssignment;
 import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Event.EventStatus;
 import com.example.VoloConnect.models.EventVolunteer;
 import com.example.VoloConnect.models.Volunteer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventVolunteerRepository extends JpaRepository<EventVolunteer, Long> {
@@ -15,9 +29,49 @@ public interface EventVolunteerRepository extends JpaRepository<EventVolunteer,
     // Find all event-volunteer mappings for a specific event
     List<EventVolunteer> findByEvent(Event event);
     
+    // Find the volunteers assigned to an event in a single statement
+    @Query("select v from EventVolunteer ev join ev.volunteer v where ev.event.id = :eventId order by ev.id")
+    List<Volunteer> findVolunteersByEventId(@Param("eventId") Long eventId);
+    
+    // Find the roster (volunteer id, name, role) of an event without loading entities
+    @Query("select new com.example.VoloConnect.dto.RosterEntry(v.id, v.name, ev.role) "
+            + "from EventVolunteer ev join ev.volunteer v where ev.event.id = :eventId order by ev.id")
+    List<RosterEntry> findRosterByEventId(@Param("eventId") Long eventId);
+    
     // Find all event-volunteer mappings for a specific volunteer
     List<EventVolunteer> findByVolunteer(Volunteer volunteer);
     
+    // Find the events a volunteer is assigned to in a single statement
+    @Query("select e from EventVolunteer ev join ev.event e where ev.volunteer.id = :volunteerId order by ev.id")
+    List<Event> findEventsByVolunteerId(@Param("volunteerId") Long volunteerId);
+    
+    // Find the assignments (event id, title, date, role) of a volunteer without loading entities
+    @Query("select new com.example.VoloConnect.dto.VolunteerAssignment(e.id, e.title, e.date, ev.role) "
+            + "from EventVolunteer ev join ev.event e where ev.volunteer.id = :volunteerId order by ev.id")
+    List<VolunteerAssignment> findAssignmentsByVolunteerId(@Param("volunteerId") Long volunteerId);
+    
+    // Per-role total and completed event counts for a volunteer, in first-assigned order
+    @Query("select new com.example.VoloConnect.dto.RoleStats(ev.volunteer.id, ev.role, count(ev), "
+            + "sum(case when e.status = :completed then 1 else 0 end)) "
+            + "from EventVolunteer ev join ev.event e where ev.volunteer.id = :volunteerId "
+            + "group by ev.volunteer.id, ev.role order by min(ev.id)")
+    List<RoleStats> findRoleStatsByVolunteerId(@Param("volunteerId") Long volunteerId,
+                                               @Param("completed") EventStatus completed);
+    
+    // Per-role total and completed event counts for several volunteers at once
+    @Query("select new com.example.VoloConnect.dto.RoleStats(ev.volunteer.id, ev.role, count(ev), "
+            + "sum(case when e.status = :completed then 1 else 0 end)) "
+            + "from EventVolunteer ev join ev.event e where ev.volunteer.id in :volunteerIds "
+            + "group by ev.volunteer.id, ev.role order by ev.volunteer.id, min(ev.id)")
+    List<RoleStats> findRoleStatsByVolunteerIds(@Param("volunteerIds") Collection<Long> volunteerIds,
+                                                @Param("completed") EventStatus completed);
+    
+    // Find which of the given volunteers are already assigned to an event
+    @Query("select ev.volunteer.id from EventVolunteer ev "
+            + "where ev.event.id = :eventId and ev.volunteer.id in :volunteerIds")
+    List<Long> findAssignedVolunteerIds(@Param("eventId") Long eventId,
+                                        @Param("volunteerIds") Collection<Long> volunteerIds);
+    
     // Find a specific event-volunteer mapping by event and volunteer
     Optional<EventVolunteer> findByEventAndVolunteer(Event event, Volunteer volunteer);
     
@@ -33,9 +87,32 @@ public interface EventVolunteerRepository extends JpaRepository<EventVolunteer,
     // Count events for a specific volunteer
     long countByVolunteer(Volunteer volunteer);
     
-    // Delete all mappings for a specific event
-    void deleteByEvent(Event event);
+    // Find the events any of the given volunteers is assigned to
+    @Query("select distinct ev.event.id from EventVolunteer ev where ev.volunteer.id in :volunteerIds")
+    List<Long> findEventIdsByVolunteerIds(@Param("volunteerIds") Collection<Long> volunteerIds);
+    
+    // Number of assignments of every volunteer that has any
+    @Query("select new com.example.VoloConnect.dto.AssignmentCount(ev.volunteer.id, count(ev)) "
+            + "from EventVolunteer ev group by ev.volunteer.id")
+    List<AssignmentCount> countAssignmentsPerVolunteer();
+    
+    // Find the volunteers assigned to any of the given events, once per assignment
+    @Query("select ev.volunteer.id from EventVolunteer ev where ev.event.id in :eventIds")
+    List<Long> findVolunteerIdsByEventIds(@Param("eventIds") Collection<Long> eventIds);
+    
+    // Delete all mappings of the given events in one statement, without loading them
+    @Modifying
+    @Query("delete from EventVolunteer ev where ev.event.id in :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
+    
+    // Delete all mappings of the given volunteers in one statement; the events' seat counters need a recount
+    @Modifying
+    @Query("delete from EventVolunteer ev where ev.volunteer.id in :volunteerIds")
+    int deleteByVolunteerIds(@Param("volunteerIds") Collection<Long> volunteerIds);
     
-    // Delete all mappings for a specific volunteer
-    void deleteByVolunteer(Volunteer volunteer);
+    // Stream an event's roster with contact details for export, fetched from the cursor 500 rows at a time
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.example.VoloConnect.dto.RosterContact(v.id, v.name, v.email, v.phone, ev.role) "
+            + "from EventVolunteer ev join ev.volunteer v where ev.event.id = :eventId order by ev.id")
+    Stream<RosterContact> streamRosterByEventId(@Param("eventId") Long eventId);
 }
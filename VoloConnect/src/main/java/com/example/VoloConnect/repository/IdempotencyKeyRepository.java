@@ -0,0 +1,45 @@
+package com.example.VoloConnect.repository;
+
+import com.example.VoloConnect.models.IdempotencyKey;
+import com.example.VoloConnect.models.IdempotencyKey.KeyStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+    
+    // Reserve an existing key again once it expired; returns 0 if it is still live
+    @Modifying
+    @Query("update IdempotencyKey k set k.requestHash = :requestHash, k.status = :inProgress, "
+            + "k.responseStatus = null, k.contentType = null, k.responseBody = null, "
+            + "k.createdAt = :now, k.expiresAt = :until where k.idempotencyKey = :key and k.expiresAt <= :now")
+    int takeOver(@Param("key") String key, @Param("requestHash") String requestHash,
+                 @Param("inProgress") KeyStatus inProgress, @Param("now") Date now, @Param("until") Date until);
+    
+    // Store the response of a reserved key
+    @Modifying
+    @Query("update IdempotencyKey k set k.status = :completed, k.responseStatus = :responseStatus, "
+            + "k.contentType = :contentType, k.responseBody = :responseBody, k.expiresAt = :until "
+            + "where k.idempotencyKey = :key and k.requestHash = :requestHash")
+    int complete(@Param("key") String key, @Param("requestHash") String requestHash,
+                 @Param("completed") KeyStatus completed, @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType, @Param("responseBody") String responseBody,
+                 @Param("until") Date until);
+    
+    // Drop a reservation whose request failed, so a retry runs it again
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.idempotencyKey = :key and k.requestHash = :requestHash "
+            + "and k.status = :inProgress")
+    int release(@Param("key") String key, @Param("requestHash") String requestHash,
+                @Param("inProgress") KeyStatus inProgress);
+    
+    // Delete keys past their expiry
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.expiresAt < :now")
+    int deleteExpired(@Param("now") Date now);
+}
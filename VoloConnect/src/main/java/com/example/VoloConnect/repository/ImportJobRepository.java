@@ -0,0 +1,9 @@
+package com.example.VoloConnect.repository;
+
+import com.example.VoloConnect.models.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+}
@@ -0,0 +1,15 @@
+package com.example.VoloConnect.repository;
+
+import com.example.VoloConnect.models.ImportRowError;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ImportRowErrorRepository extends JpaRepository<ImportRowError, Long> {
+    
+    // Find the errors of an import job in row order
+    List<ImportRowError> findByJobIdOrderByRowNumber(Long jobId, Pageable pageable);
+}
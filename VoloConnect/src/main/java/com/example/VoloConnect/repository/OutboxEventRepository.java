@@ -0,0 +1,44 @@
+package com.example.VoloConnect.repository;
+
+import com.example.VoloConnect.models.OutboxEvent;
+import com.example.VoloConnect.models.OutboxEvent.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    // Find a batch of events due for delivery, oldest first
+    @Query("select o from OutboxEvent o where o.status = :status and o.nextAttemptAt <= :now order by o.id")
+    List<OutboxEvent> findDue(@Param("status") OutboxStatus status, @Param("now") Date now, Pageable pageable);
+    
+    // Mark events as delivered to every sink
+    @Modifying
+    @Query("update OutboxEvent o set o.status = :delivered, o.deliveredAt = :now, o.lastError = null "
+            + "where o.id in :ids")
+    int markDelivered(@Param("ids") Collection<Long> ids, @Param("delivered") OutboxStatus delivered,
+                      @Param("now") Date now);
+    
+    // Record a failed attempt and when to try again (or that the event is given up on)
+    @Modifying
+    @Query("update OutboxEvent o set o.status = :status, o.attempts = :attempts, "
+            + "o.nextAttemptAt = :nextAttemptAt, o.lastError = :error where o.id = :id")
+    int markFailed(@Param("id") Long id, @Param("status") OutboxStatus status, @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") Date nextAttemptAt, @Param("error") String error);
+    
+    // Count events in a status, e.g. the delivery backlog
+    long countByStatus(OutboxStatus status);
+    
+    // Delete delivered events older than the retention period
+    @Modifying
+    @Query("delete from OutboxEvent o where o.status = :delivered and o.deliveredAt < :before")
+    int deleteDeliveredBefore(@Param("delivered") OutboxStatus delivered, @Param("before") Date before);
+}
@@ -1,11 +1,18 @@
 package com.example.VoloConnect.repository;
 
+import com.example.VoloConnect.dto.QuerySummary;
 import com.example.VoloConnect.models.Query;
 import com.example.VoloConnect.models.Query.QueryStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface QueryRepository extends JpaRepository<Query, Long> {
@@ -24,4 +31,36 @@ public interface QueryRepository extends JpaRepository<Query, Long> {
     
     // Count queries by status
     long countByStatus(QueryStatus status);
+    
+    // Newest inbox summaries for a status, served from the (status, id) index
+    @org.springframework.data.jpa.repository.Query(
+            "select new com.example.VoloConnect.dto.QuerySummary(q.id, q.name, q.email, q.subject, q.status, q.createdAt) "
+            + "from Query q where q.status = :status order by q.id desc")
+    List<QuerySummary> findInboxPage(@Param("status") QueryStatus status, Pageable pageable);
+    
+    // Inbox summaries for a status older than the given cursor
+    @org.springframework.data.jpa.repository.Query(
+            "select new com.example.VoloConnect.dto.QuerySummary(q.id, q.name, q.email, q.subject, q.status, q.createdAt) "
+            + "from Query q where q.status = :status and q.id < :beforeId order by q.id desc")
+    List<QuerySummary> findInboxPageBefore(@Param("status") QueryStatus status, @Param("beforeId") Long beforeId,
+                                           Pageable pageable);
+    
+    // Inbox summaries of every status, newest first
+    @org.springframework.data.jpa.repository.Query(
+            "select new com.example.VoloConnect.dto.QuerySummary(q.id, q.name, q.email, q.subject, q.status, q.createdAt) "
+            + "from Query q order by q.id desc")
+    List<QuerySummary> findAllInboxPage(Pageable pageable);
+    
+    // Inbox summaries of every status older than the given cursor
+    @org.springframework.data.jpa.repository.Query(
+            "select new com.example.VoloConnect.dto.QuerySummary(q.id, q.name, q.email, q.subject, q.status, q.createdAt) "
+            + "from Query q where q.id < :beforeId order by q.id desc")
+    List<QuerySummary> findAllInboxPageBefore(@Param("beforeId") Long beforeId, Pageable pageable);
+    
+    // Stream the summaries of all queries, oldest first, for export
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @org.springframework.data.jpa.repository.Query(
+            "select new com.example.VoloConnect.dto.QuerySummary(q.id, q.name, q.email, q.subject, q.status, q.createdAt) "
+            + "from Query q order by q.id")
+    Stream<QuerySummary> streamSummaries();
 }
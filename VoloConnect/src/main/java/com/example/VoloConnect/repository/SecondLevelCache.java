@@ -0,0 +1,31 @@
+package com.example.VoloConnect.repository;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts single rows from Hibernate's second-level cache after writes made
+ * with plain JDBC. A bulk JPQL update would clear the entity's whole region
+ * instead, which on a hot path like seat counting leaves the region empty.
+ */
+final class SecondLevelCache {
+
+    private SecondLevelCache() {
+    }
+
+    // Evict now, and again after commit in case another transaction cached the old row meanwhile
+    static void evict(EntityManager entityManager, Class<?> entityType, Object id) {
+        jakarta.persistence.Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(entityType, id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(entityType, id);
+                }
+            });
+        }
+    }
+}
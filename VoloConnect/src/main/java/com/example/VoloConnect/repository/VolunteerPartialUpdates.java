@@ -0,0 +1,17 @@
+package com.example.VoloConnect.repository;
+
+import java.util.Map;
+
+// Column-level volunteer updates, mixed into VolunteerRepository
+public interface VolunteerPartialUpdates {
+    
+    /**
+     * Write only the given attributes of a volunteer in one UPDATE and bump its version
+     * 
+     * @param volunteerId the ID of the volunteer
+     * @param values new values by attribute name, e.g. "bio" or "skills"
+     * @param expectedVersion the version the change is based on, or null to skip the check
+     * @return 1 if the row was updated, 0 if it is missing or its version did not match
+     */
+    int updateColumns(Long volunteerId, Map<String, Object> values, Long expectedVersion);
+}
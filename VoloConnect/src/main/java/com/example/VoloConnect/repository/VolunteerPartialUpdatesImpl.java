@@ -0,0 +1,52 @@
+package com.example.VoloConnect.repository;
+
+import com.example.VoloConnect.models.Volunteer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Set;
+
+// Plain JDBC so only the changed volunteer leaves the second-level cache; see SecondLevelCache
+class VolunteerPartialUpdatesImpl implements VolunteerPartialUpdates {
+
+    // Attributes that may be written; each is stored in a column of the same name
+    private static final Set<String> COLUMNS = Set.of("status", "bio", "skills", "availability", "preferences");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    @Transactional
+    public int updateColumns(Long volunteerId, Map<String, Object> values, Long expectedVersion) {
+        StringBuilder sql = new StringBuilder("update volunteers set ");
+        MapSqlParameterSource params = new MapSqlParameterSource("id", volunteerId);
+        values.forEach((attribute, value) -> {
+            if (!COLUMNS.contains(attribute)) {
+                throw new IllegalArgumentException("Unknown volunteer attribute: " + attribute);
+            }
+            sql.append(attribute).append(" = :").append(attribute).append(", ");
+            params.addValue(attribute, value instanceof Enum<?> constant ? constant.name() : value);
+        });
+        sql.append("version = version + 1 where id = :id");
+        if (expectedVersion != null) {
+            sql.append(" and version = :expectedVersion");
+            params.addValue("expectedVersion", expectedVersion);
+        }
+        
+        // Pending entity changes go out first, as they would before a JPQL update
+        entityManager.flush();
+        int updated = namedParameterJdbcTemplate.update(sql.toString(), params);
+        if (updated > 0) {
+            SecondLevelCache.evict(entityManager, Volunteer.class, volunteerId);
+        }
+        return updated;
+    }
+}
@@ -1,15 +1,30 @@
 package com.example.VoloConnect.repository;
 
+import com.example.VoloConnect.dto.VolunteerActivity;
+import com.example.VoloConnect.models.Event.EventStatus;
 import com.example.VoloConnect.models.Volunteer;
 import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
+public interface VolunteerRepository extends JpaRepository<Volunteer, Long>, JpaSpecificationExecutor<Volunteer>,
+        VolunteerPartialUpdates {
     
     // Find by email
     Optional<Volunteer> findByEmail(String email);
@@ -31,4 +46,55 @@ public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
     
     // Count volunteers by status
     long countByStatus(VolunteerStatus status);
+    
+    // Find which of the given volunteer IDs exist
+    @Query("select v.id from Volunteer v where v.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
+    // Completed and still active assignment counts of every volunteer with a status, ordered by ID
+    @Query("select new com.example.VoloConnect.dto.VolunteerActivity(v.id, v.name, "
+            + "sum(case when e.status = :completed then 1 else 0 end), "
+            + "sum(case when e.status in :active then 1 else 0 end)) "
+            + "from Volunteer v left join v.eventVolunteers ev left join ev.event e "
+            + "where v.status = :status group by v.id, v.name order by v.id")
+    List<VolunteerActivity> findActivityByStatus(@Param("status") VolunteerStatus status,
+                                                 @Param("completed") EventStatus completed,
+                                                 @Param("active") Collection<EventStatus> active);
+    
+    // Find volunteers having at least one of the given normalized skill tokens
+    @Query("select v from Volunteer v where v.id in "
+            + "(select vs.volunteer.id from VolunteerSkill vs where vs.skill in :skills) order by v.id")
+    List<Volunteer> findWithAnySkill(@Param("skills") Collection<String> skills);
+    
+    // Find volunteers having every one of the given normalized skill tokens
+    @Query("select v from Volunteer v where v.id in "
+            + "(select vs.volunteer.id from VolunteerSkill vs where vs.skill in :skills "
+            + "group by vs.volunteer.id having count(distinct vs.skill) = :skillCount) order by v.id")
+    List<Volunteer> findWithAllSkills(@Param("skills") Collection<String> skills,
+                                      @Param("skillCount") long skillCount);
+    
+    // Stream every volunteer in ID order for export; rows are fetched from the cursor 500 at a time
+    // and bypass the second-level cache
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select v from Volunteer v order by v.id")
+    Stream<Volunteer> streamAll();
+    
+    // Find the status of a volunteer without loading it
+    @Query("select v.status from Volunteer v where v.id = :id")
+    Optional<VolunteerStatus> findStatusById(@Param("id") Long id);
+    
+    // Find a batch of IDs of volunteers with a status and lock their rows, so none changes status
+    // before the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select v.id from Volunteer v where v.status = :status order by v.id")
+    List<Long> findIdsByStatusForUpdate(@Param("status") VolunteerStatus status, Pageable pageable);
+    
+    // Delete those of the given volunteers still in a status; their assignments, skills and slots must be deleted first
+    @Modifying
+    @Query("delete from Volunteer v where v.id in :ids and v.status = :status")
+    int deleteByIds(@Param("ids") Collection<Long> ids, @Param("status") VolunteerStatus status);
 }
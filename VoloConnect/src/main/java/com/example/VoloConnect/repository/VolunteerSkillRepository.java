@@ -0,0 +1,37 @@
+package com.example.VoloConnect.repository;
+
+import com.example.VoloConnect.dto.SkillToken;
+import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
+import com.example.VoloConnect.models.VolunteerSkill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface VolunteerSkillRepository extends JpaRepository<VolunteerSkill, Long> {
+    
+    // Find the skill tokens of a volunteer
+    @Query("select vs.skill from VolunteerSkill vs where vs.volunteer.id = :volunteerId")
+    List<String> findSkillsByVolunteerId(@Param("volunteerId") Long volunteerId);
+    
+    // Find the skill tokens of every volunteer with a status
+    @Query("select new com.example.VoloConnect.dto.SkillToken(vs.volunteer.id, vs.skill) "
+            + "from VolunteerSkill vs where vs.volunteer.status = :status")
+    List<SkillToken> findTokensByVolunteerStatus(@Param("status") VolunteerStatus status);
+    
+    // Delete the given skill tokens of a volunteer
+    @Modifying
+    @Query("delete from VolunteerSkill vs where vs.volunteer.id = :volunteerId and vs.skill in :skills")
+    int deleteByVolunteerIdAndSkillIn(@Param("volunteerId") Long volunteerId,
+                                      @Param("skills") Collection<String> skills);
+    
+    // Delete every skill token of the given volunteers
+    @Modifying
+    @Query("delete from VolunteerSkill vs where vs.volunteer.id in :volunteerIds")
+    int deleteByVolunteerIds(@Param("volunteerIds") Collection<Long> volunteerIds);
+}
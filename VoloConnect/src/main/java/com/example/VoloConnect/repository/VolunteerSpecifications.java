@@ -0,0 +1,88 @@
+package com.example.VoloConnect.repository;
+
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Specifications used to push volunteer search criteria into SQL instead of
+ * filtering {@code findAll()} results in memory.
+ */
+public final class VolunteerSpecifications {
+
+    private VolunteerSpecifications() {
+    }
+
+    /**
+     * Build a specification from the search criteria accepted by
+     * {@code VolunteerManagementService.searchVolunteers}
+     *
+     * @param criteria map containing search criteria (skills, availability, status)
+     * @return specification matching every given criterion
+     */
+    public static Specification<Volunteer> fromCriteria(Map<String, String> criteria) {
+        Specification<Volunteer> spec = Specification.where(null);
+        
+        if (criteria.containsKey("skills")) {
+            spec = spec.and(skillsContain(criteria.get("skills")));
+        }
+        
+        if (criteria.containsKey("availability")) {
+            spec = spec.and(availabilityContains(criteria.get("availability")));
+        }
+        
+        if (criteria.containsKey("status")) {
+            spec = spec.and(hasStatus(criteria.get("status")));
+        }
+        
+        return spec;
+    }
+
+    // Volunteers whose skills contain the keyword (case-insensitive)
+    public static Specification<Volunteer> skillsContain(String keyword) {
+        return (root, query, cb) ->
+                cb.like(cb.lower(root.get("skills")), likePattern(keyword), '\\');
+    }
+
+    // Volunteers whose availability contains the keyword (case-insensitive)
+    public static Specification<Volunteer> availabilityContains(String keyword) {
+        return (root, query, cb) ->
+                cb.like(cb.lower(root.get("availability")), likePattern(keyword), '\\');
+    }
+
+    // Volunteers with the given status; an unknown status matches nothing
+    public static Specification<Volunteer> hasStatus(String status) {
+        VolunteerStatus parsed = parseStatus(status);
+        return (root, query, cb) -> parsed == null
+                ? cb.disjunction()
+                : cb.equal(root.get("status"), parsed);
+    }
+
+    // Keyset predicate: only volunteers after the given id
+    public static Specification<Volunteer> idGreaterThan(Long afterId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+
+    private static String likePattern(String keyword) {
+        String escaped = keyword.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static VolunteerStatus parseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        for (VolunteerStatus candidate : VolunteerStatus.values()) {
+            if (candidate.name().equalsIgnoreCase(status)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
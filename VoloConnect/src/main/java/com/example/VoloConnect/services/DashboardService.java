@@ -0,0 +1,32 @@
+package com.example.VoloConnect.services;
+
+import com.example.VoloConnect.dto.Dashboard;
+
+public interface DashboardService {
+    
+    /**
+     * Get the admin dashboard aggregates
+     * 
+     * Served from materialized counters, so the cost does not grow with the
+     * number of volunteers, events or queries. Counts from other instances
+     * show up within one flush interval.
+     * 
+     * @return volunteer, event and query counts per status and the number of assignments
+     */
+    Dashboard getDashboard();
+    
+    /**
+     * Get the number of events a volunteer is assigned to
+     * 
+     * @param volunteerId the ID of the volunteer
+     * @return the volunteer's assignment count, 0 if it has none
+     */
+    long getVolunteerAssignments(Long volunteerId);
+    
+    /**
+     * Recount every dashboard counter from the real tables, repairing any drift
+     * 
+     * @return the dashboard after the recount
+     */
+    Dashboard reconcile();
+}
@@ -1,10 +1,14 @@
 package com.example.VoloConnect.services;
 
+import com.example.VoloConnect.dto.AssignmentResult;
+import com.example.VoloConnect.dto.RosterEntry;
+import com.example.VoloConnect.dto.VolunteerAssignment;
 import com.example.VoloConnect.models.Event;
 import com.example.VoloConnect.models.EventVolunteer;
 import com.example.VoloConnect.models.Volunteer;
 
 import java.util.List;
+import java.util.Map;
 
 public interface EventManagementService {
     
@@ -18,6 +22,18 @@ public interface EventManagementService {
      */
     Long assignVolunteer(Long eventId, Long volunteerId, String role);
     
+    /**
+     * Assign many volunteers to an event in one transaction
+     * 
+     * Volunteers are processed in the map's iteration order; once the event is
+     * full the remaining volunteers are reported as {@code EVENT_FULL}.
+     * 
+     * @param eventId the ID of the event
+     * @param rolesByVolunteer map from volunteer ID to the role of that volunteer in the event
+     * @return one result per requested volunteer, in the map's iteration order
+     */
+    List<AssignmentResult> assignVolunteers(Long eventId, Map<Long, String> rolesByVolunteer);
+    
     /**
      * Remove a volunteer from an event
      * 
@@ -35,6 +51,14 @@ public interface EventManagementService {
      */
     List<Volunteer> getEventVolunteers(Long eventId);
     
+    /**
+     * Get the roster of an event as lightweight (volunteer id, name, role) rows
+     * 
+     * @param eventId the ID of the event
+     * @return list of roster entries in assignment order
+     */
+    List<RosterEntry> getEventRoster(Long eventId);
+    
     /**
      * Get all events a volunteer is assigned to
      * 
@@ -43,6 +67,14 @@ public interface EventManagementService {
      */
     List<Event> getVolunteerEvents(Long volunteerId);
     
+    /**
+     * Get a volunteer's assignments as lightweight (event id, title, date, role) rows
+     * 
+     * @param volunteerId the ID of the volunteer
+     * @return list of assignments in assignment order
+     */
+    List<VolunteerAssignment> getVolunteerAssignments(Long volunteerId);
+    
     /**
      * Update a volunteer's role in an event
      * 
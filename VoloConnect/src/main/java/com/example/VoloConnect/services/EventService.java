@@ -0,0 +1,50 @@
+package com.example.VoloConnect.services;
+
+import java.util.List;
+
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Event.EventStatus;
+
+public interface EventService {
+    
+    /**
+     * Create a new event
+     * 
+     * @param event the event to create
+     * @return the created event
+     */
+    Event createEvent(Event event);
+    
+    /**
+     * Get an event by ID
+     * 
+     * @param eventId the ID of the event
+     * @return the event
+     */
+    Event getEvent(Long eventId);
+    
+    /**
+     * List events, optionally filtered by status and/or a title keyword
+     * 
+     * @param status the status to filter by, or null for any status
+     * @param search a keyword the title must contain, or null for any title
+     * @return list of matching events
+     */
+    List<Event> getEvents(EventStatus status, String search);
+    
+    /**
+     * Update an event's details
+     * 
+     * @param eventId the ID of the event
+     * @param changes the new title, description, date, location, capacity and status
+     * @return the updated event
+     */
+    Event updateEvent(Long eventId, Event changes);
+    
+    /**
+     * Delete an event and its volunteer assignments
+     * 
+     * @param eventId the ID of the event
+     */
+    void deleteEvent(Long eventId);
+}
@@ -0,0 +1,68 @@
+package com.example.VoloConnect.services;
+
+import java.util.Date;
+import java.util.List;
+
+import com.example.VoloConnect.dto.TimelineEntry;
+import com.example.VoloConnect.models.Event;
+
+public interface EventTimelineService {
+    
+    /**
+     * Get the next upcoming events
+     * 
+     * @param limit the maximum number of events to return
+     * @return list of non-cancelled events from now on, ordered by date
+     */
+    List<TimelineEntry> getNextEvents(int limit);
+    
+    /**
+     * Get the events in a date window
+     * 
+     * @param start the start of the window (inclusive)
+     * @param end the end of the window (inclusive)
+     * @return list of non-cancelled events in the window, ordered by date
+     */
+    List<TimelineEntry> getEventsBetween(Date start, Date end);
+    
+    /**
+     * Get the next upcoming events that still have free seats
+     * 
+     * @param limit the maximum number of events to return
+     * @return list of non-cancelled, non-full events from now on, ordered by date
+     */
+    List<TimelineEntry> getEventsWithFreeSeats(int limit);
+    
+    /**
+     * Reload the timeline from the database
+     * 
+     * @return the number of events in the rebuilt timeline
+     */
+    int rebuild();
+    
+    /**
+     * Record that an event was created or updated; applied once the current transaction commits
+     * 
+     * @param event the saved event
+     */
+    void onEventChanged(Event event);
+    
+    /**
+     * Record that an event was deleted; applied once the current transaction commits
+     * 
+     * @param eventId the ID of the deleted event
+     */
+    void onEventRemoved(Long eventId);
+    
+    /**
+     * Record a change of an event's taken seats; applied once the current transaction commits
+     * 
+     * Must be called while the transaction still holds the event row lock
+     * taken by the seat update, so changes to one event are applied in
+     * commit order.
+     * 
+     * @param eventId the ID of the event
+     * @param assignedCount the event's assigned_count after the change, as read by the changing transaction
+     */
+    void onSeatsChanged(Long eventId, int assignedCount);
+}
@@ -0,0 +1,34 @@
+package com.example.VoloConnect.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.example.VoloConnect.dto.ExportFormat;
+
+public interface ExportService {
+    
+    /**
+     * Write all volunteers to a stream, in ID order
+     * 
+     * @param format the output format
+     * @param out the stream to write to; it is flushed but not closed
+     */
+    void exportVolunteers(ExportFormat format, OutputStream out) throws IOException;
+    
+    /**
+     * Write the roster of an event, with volunteer contact details, to a stream
+     * 
+     * @param eventId the ID of the event
+     * @param format the output format
+     * @param out the stream to write to; it is flushed but not closed
+     */
+    void exportRoster(Long eventId, ExportFormat format, OutputStream out) throws IOException;
+    
+    /**
+     * Write the summaries of all queries to a stream, oldest first
+     * 
+     * @param format the output format
+     * @param out the stream to write to; it is flushed but not closed
+     */
+    void exportQueries(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.example.VoloConnect.services;
+
+import com.example.VoloConnect.dto.OutboxMessage;
+
+public interface OutboxSink {
+    
+    /**
+     * Deliver one outbox message
+     * 
+     * Messages can arrive more than once (after a failed attempt, or when
+     * another sink failed), so delivery must be idempotent on the message ID.
+     * 
+     * @param message the message to deliver
+     * @throws RuntimeException to have the message retried later
+     */
+    void deliver(OutboxMessage message);
+}
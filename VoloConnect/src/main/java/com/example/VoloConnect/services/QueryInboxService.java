@@ -0,0 +1,18 @@
+package com.example.VoloConnect.services;
+
+import com.example.VoloConnect.dto.KeysetPage;
+import com.example.VoloConnect.dto.QuerySummary;
+import com.example.VoloConnect.models.Query.QueryStatus;
+
+public interface QueryInboxService {
+    
+    /**
+     * Get one page of the support inbox for a status, newest first
+     * 
+     * @param status the status to list (PENDING, RESPONDED or CLOSED), or null for all queries
+     * @param beforeId the cursor returned with the previous page, or null for the newest page
+     * @param limit the maximum number of queries to return
+     * @return page of query summaries; its next cursor fetches older queries
+     */
+    KeysetPage<QuerySummary> getInbox(QueryStatus status, Long beforeId, int limit);
+}
@@ -0,0 +1,40 @@
+package com.example.VoloConnect.services;
+
+import com.example.VoloConnect.models.Query;
+import com.example.VoloConnect.models.Query.QueryStatus;
+
+public interface QueryService {
+    
+    /**
+     * Submit a new support query
+     * 
+     * @param query the query to submit
+     * @return the stored query
+     */
+    Query submitQuery(Query query);
+    
+    /**
+     * Get a query by ID
+     * 
+     * @param queryId the ID of the query
+     * @return the query
+     */
+    Query getQuery(Long queryId);
+    
+    /**
+     * Respond to a query
+     * 
+     * @param queryId the ID of the query
+     * @param response the response text
+     * @param status the new status, or null for RESPONDED
+     * @return the updated query
+     */
+    Query respondToQuery(Long queryId, String response, QueryStatus status);
+    
+    /**
+     * Delete a query
+     * 
+     * @param queryId the ID of the query
+     */
+    void deleteQuery(Long queryId);
+}
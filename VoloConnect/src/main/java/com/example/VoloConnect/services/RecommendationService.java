@@ -0,0 +1,30 @@
+package com.example.VoloConnect.services;
+
+import com.example.VoloConnect.dto.Recommendations;
+
+public interface RecommendationService {
+    
+    /**
+     * Suggest the best-fitting active volunteers for an event
+     * 
+     * Volunteers are scored on the event skills they have, whether their
+     * availability covers the event, how many events they completed and how
+     * many they are already committed to. Volunteers already assigned to the
+     * event are left out.
+     * 
+     * @param eventId the ID of the event
+     * @param limit the maximum number of volunteers to return
+     * Scoring stops at a latency budget; the result then holds the best
+     * volunteers found so far and is marked partial.
+     * 
+     * @return the recommended volunteers, best first
+     */
+    Recommendations recommendVolunteers(Long eventId, int limit);
+    
+    /**
+     * Reload the volunteer features the recommendations are computed from
+     * 
+     * @return the number of volunteers in the new snapshot
+     */
+    int refresh();
+}
@@ -0,0 +1,35 @@
+package com.example.VoloConnect.services;
+
+import com.example.VoloConnect.dto.QuerySummary;
+import com.example.VoloConnect.dto.SearchPage;
+import com.example.VoloConnect.models.Event;
+
+public interface SearchService {
+    
+    /**
+     * Full-text search over event titles, descriptions and locations
+     * 
+     * @param text the search text (simple query syntax: "quoted phrases", -exclusions, prefix*)
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return page of matching events, most relevant first
+     */
+    SearchPage<Event> searchEvents(String text, int page, int size);
+    
+    /**
+     * Full-text search over support query subjects and messages
+     * 
+     * @param text the search text (simple query syntax: "quoted phrases", -exclusions, prefix*)
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return page of matching query summaries, most relevant first
+     */
+    SearchPage<QuerySummary> searchQueries(String text, int page, int size);
+    
+    /**
+     * Rebuild the full-text index from the database
+     * 
+     * @throws InterruptedException if interrupted while waiting for indexing to finish
+     */
+    void reindex() throws InterruptedException;
+}
@@ -0,0 +1,49 @@
+package com.example.VoloConnect.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import com.example.VoloConnect.models.ImportJob;
+import com.example.VoloConnect.models.ImportRowError;
+
+public interface VolunteerImportService {
+    
+    /**
+     * Start importing volunteers from a CSV file
+     * 
+     * The file needs a header row; the name, email and phone columns are
+     * required, and skills, availability, bio, preferences and status are
+     * optional. The upload is stored first and imported in the background.
+     * 
+     * @param fileName the original file name, for reference
+     * @param csv the CSV content
+     * @return the new import job
+     */
+    ImportJob startImport(String fileName, InputStream csv) throws IOException;
+    
+    /**
+     * Continue an interrupted import from its last committed chunk
+     * 
+     * @param jobId the ID of the import job
+     * @return the import job
+     */
+    ImportJob resumeImport(Long jobId);
+    
+    /**
+     * Get an import job with its progress
+     * 
+     * @param jobId the ID of the import job
+     * @return the import job
+     */
+    ImportJob getJob(Long jobId);
+    
+    /**
+     * Get the rows an import skipped, with the reason
+     * 
+     * @param jobId the ID of the import job
+     * @param limit the maximum number of errors to return
+     * @return list of row errors, in row order
+     */
+    List<ImportRowError> getErrors(Long jobId, int limit);
+}
@@ -1,38 +1,72 @@
 package com.example.VoloConnect.services;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.data.domain.Slice;
+
 import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
 
 public interface VolunteerManagementService {
     
+    /**
+     * Register a new volunteer
+     * 
+     * @param volunteer the volunteer to register
+     * @return the registered volunteer
+     */
+    Volunteer registerVolunteer(Volunteer volunteer);
+    
+    /**
+     * Get a volunteer by ID
+     * 
+     * @param volunteerId the ID of the volunteer
+     * @return the volunteer
+     */
+    Volunteer getVolunteer(Long volunteerId);
+    
+    /**
+     * Update a volunteer's status
+     * 
+     * @param volunteerId the ID of the volunteer
+     * @param status the new status
+     * @param expectedVersion the version the change is based on (from the ETag), or null to overwrite unconditionally
+     * @return true if the status was successfully updated, false otherwise
+     */
+    boolean updateStatus(Long volunteerId, VolunteerStatus status, Long expectedVersion);
+    
     /**
      * Update volunteer profile data
      * 
      * @param volunteerId the ID of the volunteer
      * @param profileData map containing profile data fields (bio, skills, availability, preferences)
+     * @param expectedVersion the version the change is based on (from the ETag), or null to overwrite unconditionally
      * @return true if the profile was successfully updated, false otherwise
      */
-    boolean updateProfile(Long volunteerId, Map<String, String> profileData);
+    boolean updateProfile(Long volunteerId, Map<String, String> profileData, Long expectedVersion);
     
     /**
      * Update volunteer skills
      * 
      * @param volunteerId the ID of the volunteer
      * @param skills the new skills
+     * @param expectedVersion the version the change is based on (from the ETag), or null to overwrite unconditionally
      * @return true if the skills were successfully updated, false otherwise
      */
-    boolean updateSkills(Long volunteerId, String skills);
+    boolean updateSkills(Long volunteerId, String skills, Long expectedVersion);
     
     /**
      * Update volunteer availability
      * 
      * @param volunteerId the ID of the volunteer
      * @param availability the new availability
+     * @param expectedVersion the version the change is based on (from the ETag), or null to overwrite unconditionally
      * @return true if the availability was successfully updated, false otherwise
      */
-    boolean updateAvailability(Long volunteerId, String availability);
+    boolean updateAvailability(Long volunteerId, String availability, Long expectedVersion);
     
     /**
      * Get statistics for a volunteer
@@ -42,6 +76,14 @@ public interface VolunteerManagementService {
      */
     Map<String, Object> getVolunteerStats(Long volunteerId);
     
+    /**
+     * Get statistics for several volunteers at once, e.g. a page of search results
+     * 
+     * @param volunteerIds the IDs of the volunteers
+     * @return map from volunteer ID to that volunteer's statistics, in the format of {@link #getVolunteerStats(Long)}
+     */
+    Map<Long, Map<String, Object>> getVolunteerStats(Collection<Long> volunteerIds);
+    
     /**
      * Search for volunteers based on criteria
      * 
@@ -49,4 +91,48 @@ public interface VolunteerManagementService {
      * @return list of volunteers matching the criteria
      */
     List<Volunteer> searchVolunteers(Map<String, String> criteria);
+    
+    /**
+     * Search for volunteers based on criteria, one keyset page at a time
+     * 
+     * @param criteria map containing search criteria (skills, availability, status)
+     * @param afterId the ID of the last volunteer of the previous page, or null for the first page
+     * @param limit the maximum number of volunteers to return
+     * @return slice of volunteers matching the criteria, ordered by ID
+     */
+    Slice<Volunteer> searchVolunteers(Map<String, String> criteria, Long afterId, int limit);
+    
+    /**
+     * Find volunteers by skill using the normalized skill index
+     * 
+     * @param skills the skills to look for (matched case-insensitively as whole skills)
+     * @param matchAll true to require every skill (AND), false to require any of them (OR)
+     * @return list of volunteers having the requested skills, ordered by ID
+     */
+    List<Volunteer> findVolunteersBySkills(Collection<String> skills, boolean matchAll);
+    
+    /**
+     * Find volunteers whose structured availability covers a whole time range
+     * 
+     * @param start the start of the range
+     * @param durationMinutes the length of the range in minutes
+     * @return IDs of the available volunteers, in ascending order
+     */
+    List<Long> findAvailableVolunteerIds(Date start, int durationMinutes);
+    
+    /**
+     * Rebuild every volunteer's structured availability from their availability text,
+     * e.g. for volunteers saved before it was kept
+     * 
+     * @return the number of volunteers processed
+     */
+    int backfillAvailability();
+    
+    /**
+     * Rebuild every volunteer's normalized skill tokens from their skills text,
+     * e.g. for volunteers saved before they were kept
+     * 
+     * @return the number of volunteers processed
+     */
+    int backfillSkills();
 }
@@ -0,0 +1,29 @@
+package com.example.VoloConnect.services.impl;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers in-memory side effects until the surrounding transaction commits, so
+ * rolled-back writes never leak into caches or indexes.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    // Run the action after commit, or right away when no transaction is active
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.OutboxMessage;
+import com.example.VoloConnect.services.OutboxSink;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes outbox messages as Spring application events, so in-process code
+ * can react with {@code @EventListener} methods taking an OutboxMessage.
+ * Listeners run on the relay thread; one that throws gets the message again.
+ */
+@Component
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void deliver(OutboxMessage message) {
+        applicationEventPublisher.publishEvent(message);
+    }
+}
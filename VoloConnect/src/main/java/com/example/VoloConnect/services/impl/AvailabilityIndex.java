@@ -0,0 +1,255 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.AvailabilityWindow;
+import com.example.VoloConnect.models.AvailabilitySlot;
+import com.example.VoloConnect.repository.AvailabilitySlotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitset-per-time-slot index of volunteer availability.
+ * 
+ * The day is cut into 30-minute slots. Each weekly slot (weekday x slot) and
+ * each dated slot holds a BitSet of volunteer IDs, so "who is free for the
+ * whole of [start, end)" is an AND over the slots the range covers, where each
+ * slot is the OR of its weekly and dated bitsets.
+ * 
+ * Saves on this instance update the index as they commit; a periodic rebuild
+ * picks up those made on other instances and drops past dates. Saves applied
+ * while a rebuild reads the table are replayed onto the rebuilt index.
+ */
+@Component
+public class AvailabilityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityIndex.class);
+
+    static final int SLOT_MINUTES = 30;
+    static final int SLOTS_PER_DAY = AvailabilityWindow.MINUTES_PER_DAY / SLOT_MINUTES;
+
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${voloconnect.availability.zone:UTC}")
+    private ZoneId zone;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private BitSet[][] weekly = newWeek();
+    private Map<LocalDate, BitSet[]> dated = new HashMap<>();
+    private Map<Long, List<AvailabilityWindow>> windowsByVolunteer = new HashMap<>();
+    
+    // Replacements made while a rebuild reads, to replay onto its result; null when no rebuild runs
+    private Map<Long, List<AvailabilityWindow>> replacedDuringRebuild;
+    
+    private final Object rebuildLock = new Object();
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Find the volunteers available for the whole of [start, end).
+     * 
+     * @return the volunteer IDs in ascending order
+     */
+    public List<Long> findAvailable(ZonedDateTime start, ZonedDateTime end) {
+        BitSet available = findAvailableSet(start, end);
+        List<Long> volunteerIds = new ArrayList<>();
+        for (int id = available.nextSetBit(0); id >= 0; id = available.nextSetBit(id + 1)) {
+            volunteerIds.add((long) id);
+        }
+        return volunteerIds;
+    }
+
+    /**
+     * Same as {@link #findAvailable}, as a set of volunteer IDs owned by the caller.
+     */
+    public BitSet findAvailableSet(ZonedDateTime start, ZonedDateTime end) {
+        ZonedDateTime slotStart = start.withZoneSameInstant(zone);
+        ZonedDateTime slotEnd = end.withZoneSameInstant(zone);
+        
+        lock.readLock().lock();
+        try {
+            BitSet result = null;
+            // Walk the slots overlapping the range, aligned down to the slot boundary
+            ZonedDateTime cursor = slotStart.withSecond(0).withNano(0)
+                    .withMinute(slotStart.getMinute() - slotStart.getMinute() % SLOT_MINUTES);
+            while (cursor.isBefore(slotEnd)) {
+                int slot = (cursor.getHour() * 60 + cursor.getMinute()) / SLOT_MINUTES;
+                BitSet available = (BitSet) weekly[cursor.getDayOfWeek().ordinal()][slot].clone();
+                BitSet[] day = dated.get(cursor.toLocalDate());
+                if (day != null) {
+                    available.or(day[slot]);
+                }
+                
+                if (result == null) {
+                    result = available;
+                } else {
+                    result.and(available);
+                }
+                if (result.isEmpty()) {
+                    break;
+                }
+                cursor = cursor.plusMinutes(SLOT_MINUTES);
+            }
+            
+            return result != null ? result : new BitSet();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Replace all windows of one volunteer
+    public void replace(Long volunteerId, List<AvailabilityWindow> windows) {
+        int bit = toBit(volunteerId);
+        List<AvailabilityWindow> copy = List.copyOf(windows);
+        lock.writeLock().lock();
+        try {
+            replace(weekly, dated, windowsByVolunteer, volunteerId, bit, copy);
+            if (replacedDuringRebuild != null) {
+                replacedDuringRebuild.put(volunteerId, copy);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Reload the whole index from the volunteer_availability table; dated slots before today are left out
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            lock.writeLock().lock();
+            try {
+                replacedDuringRebuild = new HashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                rebuildFromDatabase();
+            } finally {
+                lock.writeLock().lock();
+                try {
+                    replacedDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+    
+    private void rebuildFromDatabase() {
+        LocalDate today = LocalDate.now(zone);
+        BitSet[][] newWeekly = newWeek();
+        Map<LocalDate, BitSet[]> newDated = new HashMap<>();
+        Map<Long, List<AvailabilityWindow>> newWindows = new HashMap<>();
+        
+        // Read-write, so the read goes to the primary and not to a replica that may lag behind
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Integer slotCount = transaction.execute(status -> {
+            List<AvailabilitySlot> slots = availabilitySlotRepository.findCurrent(today);
+            for (AvailabilitySlot slot : slots) {
+                Long volunteerId = slot.getVolunteer().getId();
+                AvailabilityWindow window = slot.toWindow();
+                apply(newWeekly, newDated, window, toBit(volunteerId), true);
+                newWindows.computeIfAbsent(volunteerId, id -> new ArrayList<>()).add(window);
+            }
+            return slots.size();
+        });
+        
+        lock.writeLock().lock();
+        try {
+            // Saves that committed while the table was read may be missing from it
+            replacedDuringRebuild.forEach((volunteerId, windows) ->
+                    replace(newWeekly, newDated, newWindows, volunteerId, toBit(volunteerId), windows));
+            weekly = newWeekly;
+            dated = newDated;
+            windowsByVolunteer = newWindows;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Rebuilt availability index with {} slots for {} volunteers", slotCount, newWindows.size());
+    }
+    
+    // Picks up availability saved on other instances and drops dates that have passed
+    @Scheduled(fixedDelayString = "${voloconnect.availability.reconcile-interval:PT5M}",
+            initialDelayString = "${voloconnect.availability.reconcile-interval:PT5M}")
+    public void reconcile() {
+        rebuild();
+    }
+    
+    private static void replace(BitSet[][] weekly, Map<LocalDate, BitSet[]> dated,
+                                Map<Long, List<AvailabilityWindow>> windowsByVolunteer, Long volunteerId, int bit,
+                                List<AvailabilityWindow> windows) {
+        List<AvailabilityWindow> previous = windowsByVolunteer.remove(volunteerId);
+        if (previous != null) {
+            for (AvailabilityWindow window : previous) {
+                apply(weekly, dated, window, bit, false);
+            }
+        }
+        
+        if (!windows.isEmpty()) {
+            for (AvailabilityWindow window : windows) {
+                apply(weekly, dated, window, bit, true);
+            }
+            windowsByVolunteer.put(volunteerId, windows);
+        }
+    }
+    
+    private static void apply(BitSet[][] weekly, Map<LocalDate, BitSet[]> dated, AvailabilityWindow window,
+                              int bit, boolean value) {
+        BitSet[] slots = window.dayOfWeek() != null
+                ? weekly[window.dayOfWeek().ordinal()]
+                : dated.computeIfAbsent(window.date(), date -> newDay());
+        
+        // A slot counts as available only if the window covers all of it
+        int first = (window.startMinute() + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        int last = window.endMinute() / SLOT_MINUTES;
+        for (int slot = first; slot < last; slot++) {
+            slots[slot].set(bit, value);
+        }
+    }
+    
+    private static int toBit(Long volunteerId) {
+        if (volunteerId < 0 || volunteerId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Volunteer ID out of range for the availability index: " + volunteerId);
+        }
+        return volunteerId.intValue();
+    }
+    
+    private static BitSet[][] newWeek() {
+        BitSet[][] week = new BitSet[7][];
+        for (int day = 0; day < week.length; day++) {
+            week[day] = newDay();
+        }
+        return week;
+    }
+    
+    private static BitSet[] newDay() {
+        BitSet[] day = new BitSet[SLOTS_PER_DAY];
+        for (int slot = 0; slot < day.length; slot++) {
+            day[slot] = new BitSet();
+        }
+        return day;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.config.CacheConfig;
+import com.example.VoloConnect.exceptions.ResourceNotFoundException;
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.repository.EventRepository;
+import com.example.VoloConnect.repository.VolunteerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache for Event and Volunteer lookups by ID.
+ * 
+ * Cached instances are detached and shared between requests, so callers must
+ * treat them as read-only; writes go through the repositories and evict here.
+ */
+@Component
+public class CachedEntityLookup {
+
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+
+    @Cacheable(cacheNames = CacheConfig.EVENTS, key = "#eventId")
+    public Event getEvent(Long eventId) {
+        return eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.VOLUNTEERS, key = "#volunteerId")
+    public Volunteer getVolunteer(Long volunteerId) {
+        return volunteerRepository.findById(volunteerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Volunteer not found"));
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId")
+    public void evictEvent(Long eventId) {
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.VOLUNTEERS, key = "#volunteerId")
+    public void evictVolunteer(Long volunteerId) {
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.AssignmentCount;
+import com.example.VoloConnect.models.DashboardCounter;
+import com.example.VoloConnect.models.Event.EventStatus;
+import com.example.VoloConnect.models.Query.QueryStatus;
+import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
+import com.example.VoloConnect.repository.DashboardCounterRepository;
+import com.example.VoloConnect.repository.EventVolunteerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Materialized counts for the admin dashboard.
+ *
+ * Writes add to striped LongAdders once their transaction commits, so the
+ * request path never touches a shared counter row. A flush job adds the
+ * accumulated deltas to {@code dashboard_counters} and reloads the table,
+ * which makes every instance's writes visible to all of them within a flush
+ * interval. A read is the last loaded total plus the local deltas not flushed
+ * yet.
+ *
+ * Per-volunteer assignment counts are kept only in memory: loaded with one
+ * grouped query, updated locally and reloaded on a schedule.
+ */
+@Component
+public class DashboardCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardCounters.class);
+
+    public static final String ASSIGNMENTS = "assignments";
+
+    @Autowired
+    private DashboardCounterRepository dashboardCounterRepository;
+
+    @Autowired
+    private EventVolunteerRepository eventVolunteerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // Deltas taken out of pending by a flush that has not reloaded the totals yet
+    private volatile Map<String, Long> inFlight = Map.of();
+
+    private volatile Map<String, Long> totals = Map.of();
+
+    private volatile Date refreshedAt = new Date(0);
+
+    private volatile Map<Long, LongAdder> volunteerAssignments = new ConcurrentHashMap<>();
+
+    public static String volunteers(VolunteerStatus status) {
+        return "volunteers." + status.name();
+    }
+
+    public static String events(EventStatus status) {
+        return "events." + status.name();
+    }
+
+    public static String queries(QueryStatus status) {
+        return "queries." + status.name();
+    }
+
+    /**
+     * Add to a counter once the current transaction commits.
+     */
+    public void add(String name, long delta) {
+        if (delta != 0) {
+            AfterCommit.run(() -> pending.computeIfAbsent(name, key -> new LongAdder()).add(delta));
+        }
+    }
+
+    // Move one unit from one counter to another, e.g. on a status change
+    public void move(String from, String to) {
+        if (!from.equals(to)) {
+            add(from, -1);
+            add(to, 1);
+        }
+    }
+
+    /**
+     * Add to a volunteer's assignment count and the assignment total once the current transaction commits.
+     */
+    public void addAssignments(Long volunteerId, long delta) {
+        add(ASSIGNMENTS, delta);
+        AfterCommit.run(() -> volunteerAssignments.computeIfAbsent(volunteerId, key -> new LongAdder()).add(delta));
+    }
+
+    public long get(String name) {
+        LongAdder local = pending.get(name);
+        return totals.getOrDefault(name, 0L) + inFlight.getOrDefault(name, 0L) + (local == null ? 0 : local.sum());
+    }
+
+    public long getAssignments(Long volunteerId) {
+        LongAdder count = volunteerAssignments.get(volunteerId);
+        return count == null ? 0 : Math.max(0, count.sum());
+    }
+
+    // When the totals were last loaded from the table
+    public Date getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public boolean isEmpty() {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> dashboardCounterRepository.count() == 0));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reloadTotals();
+        reloadVolunteerAssignments();
+    }
+
+    // Push local deltas to the table and pick up everyone else's; serialized with overwrite, as both use inFlight
+    @Scheduled(fixedDelayString = "${voloconnect.dashboard.flush-interval:PT5S}")
+    public synchronized void flush() {
+        Map<String, Long> deltas = new HashMap<>();
+        pending.forEach((name, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(name, delta);
+            }
+        });
+
+        if (!deltas.isEmpty()) {
+            inFlight = deltas;
+            Set<String> written = new HashSet<>();
+            try {
+                write(deltas, false, written);
+            } catch (RuntimeException e) {
+                // Keep the deltas that did not commit for the next flush; the others are in the table already
+                Map<String, Long> committed = new HashMap<>();
+                deltas.forEach((name, delta) -> {
+                    if (written.contains(name)) {
+                        committed.put(name, delta);
+                    } else {
+                        pending.computeIfAbsent(name, key -> new LongAdder()).add(delta);
+                    }
+                });
+                inFlight = committed;
+                log.warn("Could not flush dashboard counters", e);
+                return;
+            }
+        }
+        reloadTotals();
+    }
+
+    /**
+     * Overwrite counters with recounted values. Flush before recounting, so
+     * that only writes committed while the recount runs can be counted twice.
+     */
+    public synchronized void overwrite(Map<String, Long> recounted) {
+        write(recounted, true, new HashSet<>());
+        reloadTotals();
+    }
+
+    @Scheduled(fixedDelayString = "${voloconnect.dashboard.volunteer-refresh-interval:PT5M}",
+            initialDelayString = "${voloconnect.dashboard.volunteer-refresh-interval:PT5M}")
+    public void reloadVolunteerAssignments() {
+        Map<Long, LongAdder> loaded = new ConcurrentHashMap<>();
+        List<AssignmentCount> counts = transactionTemplate.execute(status ->
+                eventVolunteerRepository.countAssignmentsPerVolunteer());
+        for (AssignmentCount count : counts) {
+            LongAdder adder = new LongAdder();
+            adder.add(count.assignments());
+            loaded.put(count.volunteerId(), adder);
+        }
+        volunteerAssignments = loaded;
+    }
+
+    // Read in a read-write transaction so it goes to the primary: a lagging replica
+    // would not have the deltas just flushed, and they would vanish from the dashboard
+    private void reloadTotals() {
+        Map<String, Long> loaded = new HashMap<>();
+        List<DashboardCounter> counters = transactionTemplate.execute(status -> dashboardCounterRepository.findAll());
+        for (DashboardCounter counter : counters) {
+            loaded.put(counter.getName(), counter.getTotal());
+        }
+        totals = loaded;
+        inFlight = Map.of();
+        refreshedAt = new Date();
+    }
+
+    // Add (or, when overwriting, set) each value; rows are created on first use.
+    // Names are added to written as their change commits, so a failure part way shows what is already stored.
+    private void write(Map<String, Long> values, boolean overwrite, Set<String> written) {
+        Date now = new Date();
+        List<String> missing = transactionTemplate.execute(status -> {
+            List<String> names = new ArrayList<>();
+            values.forEach((name, value) -> {
+                int updated = overwrite
+                        ? dashboardCounterRepository.set(name, value, now)
+                        : dashboardCounterRepository.add(name, value, now);
+                if (updated == 0) {
+                    names.add(name);
+                }
+            });
+            return names;
+        });
+        values.keySet().stream().filter(name -> !missing.contains(name)).forEach(written::add);
+
+        for (String name : missing) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    entityManager.persist(new DashboardCounter(name, values.get(name), now));
+                    entityManager.flush();
+                });
+            } catch (DataIntegrityViolationException | PersistenceException e) {
+                // Another instance created the row first
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (overwrite) {
+                        dashboardCounterRepository.set(name, values.get(name), now);
+                    } else {
+                        dashboardCounterRepository.add(name, values.get(name), now);
+                    }
+                });
+            }
+            written.add(name);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.Dashboard;
+import com.example.VoloConnect.models.Event.EventStatus;
+import com.example.VoloConnect.models.Query.QueryStatus;
+import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
+import com.example.VoloConnect.repository.EventRepository;
+import com.example.VoloConnect.repository.EventVolunteerRepository;
+import com.example.VoloConnect.repository.QueryRepository;
+import com.example.VoloConnect.repository.VolunteerRepository;
+import com.example.VoloConnect.services.DashboardService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardServiceImpl.class);
+
+    static final String LOCK_NAME = "dashboard-reconcile";
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private QueryRepository queryRepository;
+
+    @Autowired
+    private EventVolunteerRepository eventVolunteerRepository;
+
+    @Autowired
+    private CachedEntityLookup cachedEntityLookup;
+
+    @Autowired
+    private LeaderLock leaderLock;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${voloconnect.dashboard.lock-lease:PT10M}")
+    private Duration lockLease;
+
+    @Override
+    public Dashboard getDashboard() {
+        Map<String, Long> volunteers = new LinkedHashMap<>();
+        for (VolunteerStatus status : VolunteerStatus.values()) {
+            volunteers.put(status.name(), dashboardCounters.get(DashboardCounters.volunteers(status)));
+        }
+
+        Map<String, Long> events = new LinkedHashMap<>();
+        for (EventStatus status : EventStatus.values()) {
+            events.put(status.name(), dashboardCounters.get(DashboardCounters.events(status)));
+        }
+
+        Map<String, Long> queries = new LinkedHashMap<>();
+        for (QueryStatus status : QueryStatus.values()) {
+            queries.put(status.name(), dashboardCounters.get(DashboardCounters.queries(status)));
+        }
+
+        return new Dashboard(sum(volunteers), volunteers, sum(events), events, sum(queries), queries,
+                dashboardCounters.get(DashboardCounters.ASSIGNMENTS), dashboardCounters.getRefreshedAt());
+    }
+
+    @Override
+    public long getVolunteerAssignments(Long volunteerId) {
+        long assignments = dashboardCounters.getAssignments(volunteerId);
+        if (assignments == 0) {
+            cachedEntityLookup.getVolunteer(volunteerId);
+        }
+
+        return assignments;
+    }
+
+    @Override
+    public Dashboard reconcile() {
+        // Flush first so the recount does not count the local deltas a second time
+        dashboardCounters.flush();
+
+        // One read-write transaction: counted on the primary, not a lagging replica, and with
+        // repeatable read all counts come from the same snapshot
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        Map<String, Long> recounted = transaction.execute(tx -> {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (VolunteerStatus status : VolunteerStatus.values()) {
+                counts.put(DashboardCounters.volunteers(status), volunteerRepository.countByStatus(status));
+            }
+            for (EventStatus status : EventStatus.values()) {
+                counts.put(DashboardCounters.events(status), eventRepository.countByStatus(status));
+            }
+            for (QueryStatus status : QueryStatus.values()) {
+                counts.put(DashboardCounters.queries(status), queryRepository.countByStatus(status));
+            }
+            counts.put(DashboardCounters.ASSIGNMENTS, eventVolunteerRepository.count());
+            return counts;
+        });
+
+        dashboardCounters.overwrite(recounted);
+        dashboardCounters.reloadVolunteerAssignments();
+        log.info("Reconciled dashboard counters: {}", recounted);
+        return getDashboard();
+    }
+
+    // Nightly repair of drift, e.g. from bulk deletes or writes lost between a commit and a flush
+    @Scheduled(cron = "${voloconnect.dashboard.reconcile-cron:0 15 3 * * *}")
+    public void scheduledReconcile() {
+        if (leaderLock.tryAcquire(LOCK_NAME, lockLease)) {
+            reconcile();
+        }
+    }
+
+    // A fresh database has no counter rows yet; count once instead of starting from zero
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (dashboardCounters.isEmpty() && leaderLock.tryAcquire(LOCK_NAME, lockLease)) {
+            reconcile();
+        }
+    }
+
+    private static long sum(Map<String, Long> counts) {
+        long total = 0;
+        for (long count : counts.values()) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Event.EventStatus;
+import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
+import com.example.VoloConnect.repository.AvailabilitySlotRepository;
+import com.example.VoloConnect.repository.EventRepository;
+import com.example.VoloConnect.repository.EventVolunteerRepository;
+import com.example.VoloConnect.repository.VolunteerRepository;
+import com.example.VoloConnect.repository.VolunteerSkillRepository;
+import com.example.VoloConnect.services.EventTimelineService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Deletes INACTIVE volunteers and CANCELLED events that are past their
+ * retention, with everything that references them.
+ *
+ * Each chunk is a handful of bulk deletes by ID in its own transaction, so
+ * neither the rows nor their assignments are loaded as entities. The chunk's
+ * rows are locked when selected, so a volunteer reactivated or an event
+ * restored meanwhile waits for the purge instead of losing its data. Bulk deletes
+ * skip entity listeners and search indexing, so the job purges the search
+ * index, caches and in-memory indexes itself. Disabled unless
+ * {@code voloconnect.purge.enabled=true}; only the instance holding the purge
+ * lock runs it.
+ */
+@Component
+@ConditionalOnProperty(name = "voloconnect.purge.enabled", havingValue = "true")
+public class DataPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DataPurgeJob.class);
+
+    static final String LOCK_NAME = "data-purge";
+
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventVolunteerRepository eventVolunteerRepository;
+
+    @Autowired
+    private VolunteerSkillRepository volunteerSkillRepository;
+
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+
+    @Autowired
+    private CachedEntityLookup cachedEntityLookup;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private EventTimelineService eventTimelineService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private LeaderLock leaderLock;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // How long after its date a cancelled event is kept
+    @Value("${voloconnect.purge.cancelled-event-retention:P30D}")
+    private Duration cancelledEventRetention;
+
+    @Value("${voloconnect.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${voloconnect.purge.lock-lease:PT30M}")
+    private Duration lockLease;
+
+    @Scheduled(cron = "${voloconnect.purge.cron:0 30 3 * * *}")
+    public void run() {
+        if (!leaderLock.tryAcquire(LOCK_NAME, lockLease)) {
+            return;
+        }
+
+        int volunteers = purgeVolunteers();
+        int events = purgeEvents(new Date(System.currentTimeMillis() - cancelledEventRetention.toMillis()));
+        if (volunteers > 0 || events > 0) {
+            // Seat counters of the remaining events changed behind the timeline's back
+            eventTimelineService.rebuild();
+            log.info("Data purge: {} inactive volunteers, {} cancelled events deleted", volunteers, events);
+        }
+    }
+
+    // Delete every INACTIVE volunteer, a chunk at a time
+    int purgeVolunteers() {
+        int total = 0;
+        while (true) {
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> batch = volunteerRepository.findIdsByStatusForUpdate(VolunteerStatus.INACTIVE,
+                        PageRequest.ofSize(batchSize));
+                if (batch.isEmpty()) {
+                    return batch;
+                }
+
+                List<Long> eventIds = eventVolunteerRepository.findEventIdsByVolunteerIds(batch);
+                int assignments = eventVolunteerRepository.deleteByVolunteerIds(batch);
+                if (!eventIds.isEmpty()) {
+                    eventRepository.recountAssigned(eventIds);
+                }
+                volunteerSkillRepository.deleteByVolunteerIds(batch);
+                availabilitySlotRepository.deleteByVolunteerIds(batch);
+                int volunteers = volunteerRepository.deleteByIds(batch, VolunteerStatus.INACTIVE);
+                dashboardCounters.add(DashboardCounters.ASSIGNMENTS, -assignments);
+                dashboardCounters.add(DashboardCounters.volunteers(VolunteerStatus.INACTIVE), -volunteers);
+
+                batch.forEach(cachedEntityLookup::evictVolunteer);
+                eventIds.forEach(cachedEntityLookup::evictEvent);
+                AfterCommit.run(() -> batch.forEach(id -> availabilityIndex.replace(id, List.of())));
+                return batch;
+            });
+
+            if (ids == null || ids.isEmpty()) {
+                return total;
+            }
+            total += ids.size();
+            meterRegistry.counter("voloconnect.purge.deleted", "entity", "volunteer").increment(ids.size());
+        }
+    }
+
+    // Delete every CANCELLED event dated before the cut-off, a chunk at a time
+    int purgeEvents(Date before) {
+        int total = 0;
+        while (true) {
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> batch = eventRepository.findIdsByStatusAndDateBeforeForUpdate(EventStatus.CANCELLED,
+                        before, PageRequest.ofSize(batchSize));
+                if (batch.isEmpty()) {
+                    return batch;
+                }
+
+                int assignments = eventVolunteerRepository.deleteByEventIds(batch);
+                int events = eventRepository.deleteByIds(batch, EventStatus.CANCELLED);
+                dashboardCounters.add(DashboardCounters.ASSIGNMENTS, -assignments);
+                dashboardCounters.add(DashboardCounters.events(EventStatus.CANCELLED), -events);
+
+                // Applied to the index when the transaction commits
+                SearchIndexingPlan indexingPlan = Search.session(entityManager).indexingPlan();
+                for (Long id : batch) {
+                    indexingPlan.purge(Event.class, id, null);
+                }
+                batch.forEach(cachedEntityLookup::evictEvent);
+                return batch;
+            });
+
+            if (ids == null || ids.isEmpty()) {
+                return total;
+            }
+            total += ids.size();
+            meterRegistry.counter("voloconnect.purge.deleted", "entity", "event").increment(ids.size());
+        }
+    }
+}
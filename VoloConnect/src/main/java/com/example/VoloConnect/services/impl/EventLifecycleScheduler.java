@@ -0,0 +1,117 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.models.Event.EventStatus;
+import com.example.VoloConnect.repository.EventRepository;
+import com.example.VoloConnect.services.EventTimelineService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Moves events through UPCOMING -> ONGOING -> COMPLETED as their date passes.
+ *
+ * Each step selects a bounded batch of IDs and moves it with one UPDATE in its
+ * own transaction, so a backlog never turns into one long transaction or a
+ * full load of entities. Only the instance holding the lifecycle lock runs it.
+ */
+@Component
+public class EventLifecycleScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLifecycleScheduler.class);
+
+    static final String LOCK_NAME = "event-lifecycle";
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CachedEntityLookup cachedEntityLookup;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Autowired
+    private EventTimelineService eventTimelineService;
+
+    @Autowired
+    private LeaderLock leaderLock;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // How long after its start an event counts as completed
+    @Value("${voloconnect.lifecycle.event-duration:PT2H}")
+    private Duration eventDuration;
+
+    @Value("${voloconnect.lifecycle.batch-size:500}")
+    private int batchSize;
+
+    // How long the elected instance keeps the lock without renewing it; must exceed the run interval
+    @Value("${voloconnect.lifecycle.lock-lease:PT5M}")
+    private Duration lockLease;
+
+    @Scheduled(fixedDelayString = "${voloconnect.lifecycle.interval:PT1M}")
+    public void run() {
+        if (!leaderLock.tryAcquire(LOCK_NAME, lockLease)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int started = advance(EventStatus.UPCOMING, EventStatus.ONGOING, new Date(now));
+        int completed = advance(EventStatus.ONGOING, EventStatus.COMPLETED, new Date(now - eventDuration.toMillis()));
+
+        int total = started + completed;
+        DistributionSummary.builder("voloconnect.events.lifecycle.run.transitions")
+                .description("Event status transitions per lifecycle run")
+                .register(meterRegistry)
+                .record(total);
+
+        if (total > 0) {
+            // Bulk updates skip the entity listeners, so reload the timeline's statuses
+            eventTimelineService.rebuild();
+            log.info("Event lifecycle run: {} started, {} completed", started, completed);
+        }
+    }
+
+    // Move every event in one status whose date is at or before a cut-off to the next status
+    int advance(EventStatus from, EventStatus to, Date before) {
+        int total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = eventRepository.findIdsByStatusAndDateBefore(from, before,
+                        PageRequest.ofSize(batchSize));
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+
+                int updated = eventRepository.transitionStatus(ids, from, to);
+                ids.forEach(cachedEntityLookup::evictEvent);
+                dashboardCounters.add(DashboardCounters.events(from), -updated);
+                dashboardCounters.add(DashboardCounters.events(to), updated);
+                return updated;
+            });
+
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            meterRegistry.counter("voloconnect.events.lifecycle.transitions",
+                    "from", from.name(), "to", to.name()).increment(moved);
+        }
+        return total;
+    }
+}
@@ -1,21 +1,36 @@
 package com.example.VoloConnect.services.impl;
 
+import com.example.VoloConnect.dto.AssignmentResult;
+import com.example.VoloConnect.dto.RosterEntry;
+import com.example.VoloConnect.dto.VolunteerAssignment;
+import com.example.VoloConnect.exceptions.ConflictException;
+import com.example.VoloConnect.exceptions.ResourceNotFoundException;
 import com.example.VoloConnect.models.Event;
 import com.example.VoloConnect.models.EventVolunteer;
+import com.example.VoloConnect.models.OutboxEvent.EventType;
 import com.example.VoloConnect.models.Volunteer;
 import com.example.VoloConnect.repository.EventRepository;
 import com.example.VoloConnect.repository.EventVolunteerRepository;
 import com.example.VoloConnect.repository.VolunteerRepository;
 import com.example.VoloConnect.services.EventManagementService;
+import com.example.VoloConnect.services.EventTimelineService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
+@Timed(value = "voloconnect.service.event.management", histogram = true)
 public class EventManagementServiceImpl implements EventManagementService {
 
     @Autowired
@@ -26,96 +41,228 @@ public class EventManagementServiceImpl implements EventManagementService {
     
     @Autowired
     private EventVolunteerRepository eventVolunteerRepository;
+    
+    @Autowired
+    private CachedEntityLookup cachedEntityLookup;
+    
+    @Autowired
+    private DashboardCounters dashboardCounters;
+    
+    @Autowired
+    private EventTimelineService eventTimelineService;
+    
+    @Autowired
+    private OutboxPublisher outboxPublisher;
 
     @Override
     @Transactional
     public Long assignVolunteer(Long eventId, Long volunteerId, String role) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-                
-        Volunteer volunteer = volunteerRepository.findById(volunteerId)
-                .orElseThrow(() -> new RuntimeException("Volunteer not found"));
+        // Taking the seat first locks the event row, so concurrent sign-ups
+        // for the same event are serialized for the rest of this transaction
+        if (eventRepository.reserveSeat(eventId) == 0) {
+            requireEvent(eventId);
+            throw new ConflictException("Event is full");
+        }
         
-        // Check if the assignment already exists
-        Optional<EventVolunteer> existingAssignment = 
-                eventVolunteerRepository.findByEventAndVolunteer(event, volunteer);
+        Volunteer volunteer = cachedEntityLookup.getVolunteer(volunteerId);
         
-        if (existingAssignment.isPresent()) {
-            throw new RuntimeException("Volunteer is already assigned to this event");
+        // Check if the assignment already exists
+        if (eventVolunteerRepository.findByEvent_IdAndVolunteer_Id(eventId, volunteerId).isPresent()) {
+            throw new ConflictException("Volunteer is already assigned to this event");
         }
         
         EventVolunteer eventVolunteer = new EventVolunteer();
-        eventVolunteer.setEvent(event);
-        eventVolunteer.setVolunteer(volunteer);
+        eventVolunteer.setEvent(eventRepository.getReferenceById(eventId));
+        eventVolunteer.setVolunteer(volunteerRepository.getReferenceById(volunteerId));
         eventVolunteer.setRole(role);
         
-        eventVolunteer = eventVolunteerRepository.save(eventVolunteer);
+        try {
+            eventVolunteer = eventVolunteerRepository.saveAndFlush(eventVolunteer);
+        } catch (DataIntegrityViolationException e) {
+            // Backstop for the (event_id, volunteer_id) unique constraint
+            throw new ConflictException("Volunteer is already assigned to this event", e);
+        }
+        
+        publishAssignmentEvent(EventType.VOLUNTEER_ASSIGNED, cachedEntityLookup.getEvent(eventId), volunteer, role);
+        cachedEntityLookup.evictEvent(eventId);
+        eventTimelineService.onSeatsChanged(eventId, eventRepository.findAssignedCount(eventId));
+        dashboardCounters.addAssignments(volunteerId, 1);
         return eventVolunteer.getId();
     }
 
     @Override
     @Transactional
-    public boolean removeVolunteer(Long eventId, Long volunteerId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-                
-        Volunteer volunteer = volunteerRepository.findById(volunteerId)
-                .orElseThrow(() -> new RuntimeException("Volunteer not found"));
+    public List<AssignmentResult> assignVolunteers(Long eventId, Map<Long, String> rolesByVolunteer) {
+        // Locking the event row serializes this with single assignments to the same event
+        Event event = eventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        
+        if (rolesByVolunteer.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Set<Long> knownVolunteers = new HashSet<>(volunteerRepository.findExistingIds(rolesByVolunteer.keySet()));
+        Set<Long> alreadyAssigned = new HashSet<>(
+                eventVolunteerRepository.findAssignedVolunteerIds(eventId, rolesByVolunteer.keySet()));
+        int freeSeats = Math.max(0, event.getCapacity() - event.getAssignedCount());
+        
+        Map<Long, EventVolunteer> created = new HashMap<>();
+        for (Map.Entry<Long, String> entry : rolesByVolunteer.entrySet()) {
+            Long volunteerId = entry.getKey();
+            if (!knownVolunteers.contains(volunteerId) || alreadyAssigned.contains(volunteerId)
+                    || created.size() >= freeSeats) {
+                continue;
+            }
+            
+            EventVolunteer eventVolunteer = new EventVolunteer();
+            eventVolunteer.setEvent(event);
+            eventVolunteer.setVolunteer(volunteerRepository.getReferenceById(volunteerId));
+            eventVolunteer.setRole(entry.getValue());
+            created.put(volunteerId, eventVolunteer);
+        }
         
+        // Inserted as JDBC batches (hibernate.jdbc.batch_size) on flush
+        eventVolunteerRepository.saveAll(created.values());
+        if (!created.isEmpty()) {
+            eventRepository.addSeats(eventId, created.size());
+            for (Volunteer volunteer : volunteerRepository.findAllById(created.keySet())) {
+                publishAssignmentEvent(EventType.VOLUNTEER_ASSIGNED, event, volunteer,
+                        created.get(volunteer.getId()).getRole());
+            }
+        }
+        eventVolunteerRepository.flush();
+        cachedEntityLookup.evictEvent(eventId);
+        if (!created.isEmpty()) {
+            eventTimelineService.onSeatsChanged(eventId, eventRepository.findAssignedCount(eventId));
+        }
+        created.keySet().forEach(volunteerId -> dashboardCounters.addAssignments(volunteerId, 1));
+        
+        List<AssignmentResult> results = new ArrayList<>(rolesByVolunteer.size());
+        for (Long volunteerId : rolesByVolunteer.keySet()) {
+            AssignmentResult.Status status;
+            Long assignmentId = null;
+            if (!knownVolunteers.contains(volunteerId)) {
+                status = AssignmentResult.Status.VOLUNTEER_NOT_FOUND;
+            } else if (alreadyAssigned.contains(volunteerId)) {
+                status = AssignmentResult.Status.ALREADY_ASSIGNED;
+            } else if (created.containsKey(volunteerId)) {
+                status = AssignmentResult.Status.ASSIGNED;
+                assignmentId = created.get(volunteerId).getId();
+            } else {
+                status = AssignmentResult.Status.EVENT_FULL;
+            }
+            results.add(new AssignmentResult(volunteerId, status, assignmentId));
+        }
+        
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public boolean removeVolunteer(Long eventId, Long volunteerId) {
         Optional<EventVolunteer> eventVolunteerOpt = 
-                eventVolunteerRepository.findByEventAndVolunteer(event, volunteer);
+                eventVolunteerRepository.findByEvent_IdAndVolunteer_Id(eventId, volunteerId);
                 
         if (eventVolunteerOpt.isPresent()) {
-            eventVolunteerRepository.delete(eventVolunteerOpt.get());
+            EventVolunteer eventVolunteer = eventVolunteerOpt.get();
+            publishAssignmentEvent(EventType.VOLUNTEER_REMOVED, eventVolunteer.getEvent(),
+                    eventVolunteer.getVolunteer(), eventVolunteer.getRole());
+            eventVolunteerRepository.delete(eventVolunteer);
+            eventRepository.releaseSeat(eventId);
+            cachedEntityLookup.evictEvent(eventId);
+            eventTimelineService.onSeatsChanged(eventId, eventRepository.findAssignedCount(eventId));
+            dashboardCounters.addAssignments(volunteerId, -1);
             return true;
         }
         
+        requireEvent(eventId);
+        requireVolunteer(volunteerId);
         return false;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Volunteer> getEventVolunteers(Long eventId) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-                
-        List<EventVolunteer> eventVolunteers = eventVolunteerRepository.findByEvent(event);
+        List<Volunteer> volunteers = eventVolunteerRepository.findVolunteersByEventId(eventId);
+        if (volunteers.isEmpty()) {
+            requireEvent(eventId);
+        }
         
-        return eventVolunteers.stream()
-                .map(EventVolunteer::getVolunteer)
-                .collect(Collectors.toList());
+        return volunteers;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<RosterEntry> getEventRoster(Long eventId) {
+        List<RosterEntry> roster = eventVolunteerRepository.findRosterByEventId(eventId);
+        if (roster.isEmpty()) {
+            requireEvent(eventId);
+        }
+        
+        return roster;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Event> getVolunteerEvents(Long volunteerId) {
-        Volunteer volunteer = volunteerRepository.findById(volunteerId)
-                .orElseThrow(() -> new RuntimeException("Volunteer not found"));
-                
-        List<EventVolunteer> eventVolunteers = eventVolunteerRepository.findByVolunteer(volunteer);
+        List<Event> events = eventVolunteerRepository.findEventsByVolunteerId(volunteerId);
+        if (events.isEmpty()) {
+            requireVolunteer(volunteerId);
+        }
         
-        return eventVolunteers.stream()
-                .map(EventVolunteer::getEvent)
-                .collect(Collectors.toList());
+        return events;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VolunteerAssignment> getVolunteerAssignments(Long volunteerId) {
+        List<VolunteerAssignment> assignments = eventVolunteerRepository.findAssignmentsByVolunteerId(volunteerId);
+        if (assignments.isEmpty()) {
+            requireVolunteer(volunteerId);
+        }
+        
+        return assignments;
     }
 
     @Override
     @Transactional
     public boolean updateVolunteerRole(Long eventId, Long volunteerId, String newRole) {
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-                
-        Volunteer volunteer = volunteerRepository.findById(volunteerId)
-                .orElseThrow(() -> new RuntimeException("Volunteer not found"));
-        
         Optional<EventVolunteer> eventVolunteerOpt = 
-                eventVolunteerRepository.findByEventAndVolunteer(event, volunteer);
+                eventVolunteerRepository.findByEvent_IdAndVolunteer_Id(eventId, volunteerId);
                 
         if (eventVolunteerOpt.isPresent()) {
             EventVolunteer eventVolunteer = eventVolunteerOpt.get();
             eventVolunteer.setRole(newRole);
             eventVolunteerRepository.save(eventVolunteer);
+            publishAssignmentEvent(EventType.VOLUNTEER_ROLE_CHANGED, eventVolunteer.getEvent(),
+                    eventVolunteer.getVolunteer(), newRole);
             return true;
         }
         
+        requireEvent(eventId);
+        requireVolunteer(volunteerId);
         return false;
     }
+    
+    // Record the change in the outbox, with what notification sinks need to know
+    private void publishAssignmentEvent(EventType type, Event event, Volunteer volunteer, String role) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("eventId", event.getId());
+        payload.put("eventTitle", event.getTitle());
+        payload.put("eventDate", event.getDate());
+        payload.put("volunteerId", volunteer.getId());
+        payload.put("volunteerName", volunteer.getName());
+        payload.put("email", volunteer.getEmail());
+        payload.put("role", role);
+        outboxPublisher.publish(type, event.getId(), payload);
+    }
+    
+    // Used when a lookup came back empty, to tell "no rows" from "no such event"
+    private void requireEvent(Long eventId) {
+        cachedEntityLookup.getEvent(eventId);
+    }
+    
+    private void requireVolunteer(Long volunteerId) {
+        cachedEntityLookup.getVolunteer(volunteerId);
+    }
 }
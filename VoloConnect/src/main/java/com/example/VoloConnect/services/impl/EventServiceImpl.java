@@ -0,0 +1,123 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.exceptions.ConflictException;
+import com.example.VoloConnect.exceptions.ResourceNotFoundException;
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Event.EventStatus;
+import com.example.VoloConnect.repository.EventRepository;
+import com.example.VoloConnect.repository.EventVolunteerRepository;
+import com.example.VoloConnect.services.EventService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class EventServiceImpl implements EventService {
+
+    @Autowired
+    private EventRepository eventRepository;
+    
+    @Autowired
+    private EventVolunteerRepository eventVolunteerRepository;
+    
+    @Autowired
+    private CachedEntityLookup cachedEntityLookup;
+    
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Override
+    @Transactional
+    public Event createEvent(Event event) {
+        event.setId(null);
+        event.setAssignedCount(0);
+        if (event.getStatus() == null) {
+            event.setStatus(EventStatus.UPCOMING);
+        }
+        
+        event = eventRepository.save(event);
+        dashboardCounters.add(DashboardCounters.events(event.getStatus()), 1);
+        return event;
+    }
+
+    @Override
+    public Event getEvent(Long eventId) {
+        return cachedEntityLookup.getEvent(eventId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Event> getEvents(EventStatus status, String search) {
+        if (search != null && !search.isBlank()) {
+            List<Event> events = eventRepository.findByTitleContainingIgnoreCase(search.trim());
+            return status == null ? events : events.stream()
+                    .filter(event -> event.getStatus() == status)
+                    .collect(Collectors.toList());
+        }
+        
+        return status == null ? eventRepository.findAll() : eventRepository.findByStatus(status);
+    }
+
+    @Override
+    @Transactional
+    public Event updateEvent(Long eventId, Event changes) {
+        // Locked so no seat is taken between the capacity check and the commit
+        Event event = eventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        
+        if (changes.getCapacity() != null && changes.getCapacity() < event.getAssignedCount()) {
+            throw new ConflictException("Capacity cannot be lower than the number of assigned volunteers");
+        }
+        
+        if (changes.getTitle() != null) {
+            event.setTitle(changes.getTitle());
+        }
+        
+        if (changes.getDescription() != null) {
+            event.setDescription(changes.getDescription());
+        }
+        
+        if (changes.getDate() != null) {
+            event.setDate(changes.getDate());
+        }
+        
+        if (changes.getLocation() != null) {
+            event.setLocation(changes.getLocation());
+        }
+        
+        if (changes.getCapacity() != null) {
+            event.setCapacity(changes.getCapacity());
+        }
+        
+        if (changes.getStatus() != null) {
+            dashboardCounters.move(DashboardCounters.events(event.getStatus()),
+                    DashboardCounters.events(changes.getStatus()));
+            event.setStatus(changes.getStatus());
+        }
+        
+        event = eventRepository.save(event);
+        cachedEntityLookup.evictEvent(eventId);
+        return event;
+    }
+
+    @Override
+    @Transactional
+    public void deleteEvent(Long eventId) {
+        // Locking the event row keeps sign-ups from adding to the roster while it is deleted
+        Event event = eventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        
+        for (Long volunteerId : eventVolunteerRepository.findVolunteerIdsByEventIds(List.of(eventId))) {
+            dashboardCounters.addAssignments(volunteerId, -1);
+        }
+        
+        // One statement for the whole roster instead of a cascaded delete per assignment
+        eventVolunteerRepository.deleteByEventIds(List.of(eventId));
+        eventRepository.delete(event);
+        cachedEntityLookup.evictEvent(eventId);
+        dashboardCounters.add(DashboardCounters.events(event.getStatus()), -1);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.TimelineEntry;
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Event.EventStatus;
+import com.example.VoloConnect.repository.EventRepository;
+import com.example.VoloConnect.services.EventTimelineService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-memory, date-ordered index of non-cancelled events.
+ * 
+ * Reads are lock-free over a skip list; writes are rare and serialized. The
+ * timeline is updated incrementally after each committed change and fully
+ * reloaded on a schedule to repair anything the incremental path missed.
+ *
+ * Seat changes carry the absolute count, ordered per event by a sequence
+ * taken under the event row lock, so applying one twice or late does no
+ * harm. Changes applied while a reload is reading the database are replayed
+ * onto the reloaded timeline before it replaces the old one.
+ */
+@Service
+public class EventTimelineServiceImpl implements EventTimelineService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventTimelineServiceImpl.class);
+
+    @Autowired
+    private EventRepository eventRepository;
+    
+    // How far back the timeline keeps past events, so recent date windows can still be answered
+    @Value("${voloconnect.timeline.lookback:P1D}")
+    private Duration lookback;
+    
+    private volatile Timeline timeline = new Timeline();
+    
+    // Orders seat changes; per event it follows commit order, as it is taken under the event row lock
+    private final AtomicLong seatSequence = new AtomicLong();
+    
+    // Sequence of the latest seat change applied per event, kept across rebuilds; guarded by this
+    private final Map<Long, Long> appliedSeatSequences = new HashMap<>();
+    
+    // Changes applied while a rebuild reads, to replay onto its result; null when no rebuild runs. Guarded by this
+    private List<Consumer<Timeline>> changesDuringRebuild;
+    
+    private final Object rebuildLock = new Object();
+
+    @Override
+    public List<TimelineEntry> getNextEvents(int limit) {
+        return collect(timeline.byDate.tailMap(TimelineKey.from(System.currentTimeMillis())), limit, false);
+    }
+
+    @Override
+    public List<TimelineEntry> getEventsBetween(Date start, Date end) {
+        if (start.after(end)) {
+            return new ArrayList<>();
+        }
+        
+        ConcurrentNavigableMap<TimelineKey, TimelineEntry> window = timeline.byDate.subMap(
+                TimelineKey.from(start.getTime()), true, TimelineKey.to(end.getTime()), true);
+        return collect(window, Integer.MAX_VALUE, false);
+    }
+
+    @Override
+    public List<TimelineEntry> getEventsWithFreeSeats(int limit) {
+        return collect(timeline.byDate.tailMap(TimelineKey.from(System.currentTimeMillis())), limit, true);
+    }
+
+    @Override
+    public int rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                changesDuringRebuild = new ArrayList<>();
+            }
+            try {
+                // Outside a transaction, so this reads the primary
+                Date from = new Date(System.currentTimeMillis() - lookback.toMillis());
+                List<TimelineEntry> entries = eventRepository.findTimelineEntries(from, EventStatus.CANCELLED);
+                
+                Timeline rebuilt = new Timeline();
+                for (TimelineEntry entry : entries) {
+                    rebuilt.put(entry);
+                }
+                
+                synchronized (this) {
+                    changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                    timeline = rebuilt;
+                    appliedSeatSequences.keySet().retainAll(rebuilt.keysById.keySet());
+                }
+                
+                log.debug("Rebuilt event timeline with {} events", entries.size());
+                return entries.size();
+            } finally {
+                synchronized (this) {
+                    changesDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${voloconnect.timeline.reconcile-interval:PT5M}",
+            initialDelayString = "${voloconnect.timeline.reconcile-interval:PT5M}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Override
+    public void onEventChanged(Event event) {
+        // Snapshot now: the entity may keep changing before the transaction commits
+        TimelineEntry entry = new TimelineEntry(event.getId(), event.getTitle(), event.getLocation(),
+                event.getDate(), event.getCapacity(), event.getAssignedCount(), event.getStatus());
+        
+        AfterCommit.run(() -> apply(target -> {
+            target.remove(entry.id());
+            if (entry.status() != EventStatus.CANCELLED) {
+                target.put(entry);
+            }
+        }));
+    }
+
+    @Override
+    public void onEventRemoved(Long eventId) {
+        AfterCommit.run(() -> apply(target -> target.remove(eventId)));
+    }
+
+    @Override
+    public void onSeatsChanged(Long eventId, int assignedCount) {
+        long sequence = seatSequence.incrementAndGet();
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                // A later change to this event was applied first
+                Long applied = appliedSeatSequences.get(eventId);
+                if (applied != null && applied > sequence) {
+                    return;
+                }
+                appliedSeatSequences.put(eventId, sequence);
+                apply(target -> target.setAssignedCount(eventId, assignedCount));
+            }
+        });
+    }
+    
+    // Apply a change to the timeline, and remember it for the rebuild in progress if there is one
+    private synchronized void apply(Consumer<Timeline> change) {
+        change.accept(timeline);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+    
+    private static List<TimelineEntry> collect(Map<TimelineKey, TimelineEntry> range, int limit,
+                                               boolean freeSeatsOnly) {
+        List<TimelineEntry> result = new ArrayList<>();
+        for (TimelineEntry entry : range.values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (!freeSeatsOnly || entry.hasFreeSeats()) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    // Orders events by date, then ID so events at the same instant stay distinct
+    private record TimelineKey(long epochMillis, long eventId) implements Comparable<TimelineKey> {
+
+        static TimelineKey from(long epochMillis) {
+            return new TimelineKey(epochMillis, Long.MIN_VALUE);
+        }
+
+        static TimelineKey to(long epochMillis) {
+            return new TimelineKey(epochMillis, Long.MAX_VALUE);
+        }
+
+        @Override
+        public int compareTo(TimelineKey other) {
+            int byTime = Long.compare(epochMillis, other.epochMillis);
+            return byTime != 0 ? byTime : Long.compare(eventId, other.eventId);
+        }
+    }
+
+    private static final class Timeline {
+
+        final ConcurrentSkipListMap<TimelineKey, TimelineEntry> byDate = new ConcurrentSkipListMap<>();
+        final ConcurrentHashMap<Long, TimelineKey> keysById = new ConcurrentHashMap<>();
+
+        void put(TimelineEntry entry) {
+            TimelineKey key = new TimelineKey(entry.date().getTime(), entry.id());
+            byDate.put(key, entry);
+            keysById.put(entry.id(), key);
+        }
+
+        void remove(Long eventId) {
+            TimelineKey key = keysById.remove(eventId);
+            if (key != null) {
+                byDate.remove(key);
+            }
+        }
+
+        void setAssignedCount(Long eventId, int assignedCount) {
+            TimelineKey key = keysById.get(eventId);
+            TimelineEntry entry = key == null ? null : byDate.get(key);
+            if (entry != null) {
+                byDate.put(key, entry.withAssignedCount(assignedCount));
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.ExportFormat;
+import com.example.VoloConnect.dto.QuerySummary;
+import com.example.VoloConnect.dto.RosterContact;
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.repository.EventVolunteerRepository;
+import com.example.VoloConnect.repository.QueryRepository;
+import com.example.VoloConnect.repository.VolunteerRepository;
+import com.example.VoloConnect.services.ExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams exports straight from a database cursor to the response.
+ * 
+ * Each export runs in one read-only transaction over a Stream-returning
+ * repository query, writing rows as they arrive; entities are detached from
+ * the persistence context every CLEAR_INTERVAL rows, so memory use stays flat
+ * however many rows there are.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    static final int CLEAR_INTERVAL = 500;
+
+    private static final List<String> VOLUNTEER_COLUMNS = List.of(
+            "id", "name", "email", "phone", "status", "skills", "availability");
+    private static final List<String> ROSTER_COLUMNS = List.of(
+            "volunteerId", "name", "email", "phone", "role");
+    private static final List<String> QUERY_COLUMNS = List.of(
+            "id", "name", "email", "subject", "status", "createdAt");
+
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+    
+    @Autowired
+    private EventVolunteerRepository eventVolunteerRepository;
+    
+    @Autowired
+    private QueryRepository queryRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportVolunteers(ExportFormat format, OutputStream out) throws IOException {
+        ExportWriter writer = new ExportWriter(format, VOLUNTEER_COLUMNS, out, objectMapper);
+        
+        try (Stream<Volunteer> volunteers = volunteerRepository.streamAll()) {
+            Iterator<Volunteer> rows = volunteers.iterator();
+            int count = 0;
+            while (rows.hasNext()) {
+                Volunteer volunteer = rows.next();
+                writer.write(volunteer.getId(), volunteer.getName(), volunteer.getEmail(), volunteer.getPhone(),
+                        volunteer.getStatus(), volunteer.getSkills(), volunteer.getAvailability());
+                
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        
+        writer.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportRoster(Long eventId, ExportFormat format, OutputStream out) throws IOException {
+        ExportWriter writer = new ExportWriter(format, ROSTER_COLUMNS, out, objectMapper);
+        
+        try (Stream<RosterContact> roster = eventVolunteerRepository.streamRosterByEventId(eventId)) {
+            Iterator<RosterContact> rows = roster.iterator();
+            while (rows.hasNext()) {
+                RosterContact entry = rows.next();
+                writer.write(entry.volunteerId(), entry.name(), entry.email(), entry.phone(), entry.role());
+            }
+        }
+        
+        writer.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportQueries(ExportFormat format, OutputStream out) throws IOException {
+        ExportWriter writer = new ExportWriter(format, QUERY_COLUMNS, out, objectMapper);
+        
+        try (Stream<QuerySummary> queries = queryRepository.streamSummaries()) {
+            Iterator<QuerySummary> rows = queries.iterator();
+            while (rows.hasNext()) {
+                QuerySummary query = rows.next();
+                writer.write(query.id(), query.name(), query.email(), query.subject(), query.status(),
+                        query.createdAt());
+            }
+        }
+        
+        writer.flush();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Writes export rows one at a time as CSV (with a header line) or NDJSON,
+ * without holding more than the current row in memory.
+ */
+final class ExportWriter {
+
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+
+    ExportWriter(ExportFormat format, List<String> columns, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // The writer belongs to the caller; Jackson must not close it after each row
+        this.objectMapper = objectMapper.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(columns.toArray());
+        }
+    }
+
+    // Write one row; values are in column order
+    void write(Object... values) throws IOException {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " values, got " + values.length);
+        }
+
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(values);
+            return;
+        }
+
+        JsonGenerator json = objectMapper.getFactory().createGenerator(writer);
+        json.writeStartObject();
+        for (int i = 0; i < values.length; i++) {
+            json.writeFieldName(columns.get(i));
+            objectMapper.writeValue(json, values[i]);
+        }
+        json.writeEndObject();
+        json.flush();
+        writer.write('\n');
+    }
+
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value instanceof Date date ? date.toInstant().toString() : value.toString();
+        // Keep spreadsheet apps from evaluating user-entered text as a formula
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                || text.indexOf('\r') >= 0) {
+            text = '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.models.SchedulerLock;
+import com.example.VoloConnect.repository.SchedulerLockRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Database-backed leases on named background jobs, for instances sharing one
+ * database.
+ *
+ * A lock is a row in {@code scheduler_locks}. Taking it is a single
+ * conditional UPDATE that succeeds only if the lease expired or this instance
+ * already holds it, so the holder keeps renewing its lease on every run and
+ * stays the leader until it stops (or shuts down and releases it). Another
+ * instance takes over once the lease runs out.
+ */
+@Component
+public class LeaderLock {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderLock.class);
+
+    @Autowired
+    private SchedulerLockRepository schedulerLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Identifies this instance in locked_by
+    private final String owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final Set<String> held = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Take or renew the named lock for the given lease.
+     *
+     * @return true if this instance holds the lock until the lease ends
+     */
+    public boolean tryAcquire(String name, Duration lease) {
+        // Runs in its own transaction so the lock commits before the job starts
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Date now = new Date();
+        Date until = new Date(now.getTime() + lease.toMillis());
+        boolean acquired;
+        try {
+            acquired = Boolean.TRUE.equals(transaction.execute(status -> {
+                if (schedulerLockRepository.acquire(name, owner, now, until) > 0) {
+                    return true;
+                }
+                if (schedulerLockRepository.existsById(name)) {
+                    return false;
+                }
+
+                // First use of this lock name
+                entityManager.persist(new SchedulerLock(name, until, now, owner));
+                entityManager.flush();
+                return true;
+            }));
+        } catch (DataIntegrityViolationException | PersistenceException e) {
+            // Another instance created the row first and holds it
+            acquired = false;
+        }
+
+        if (acquired) {
+            if (held.add(name)) {
+                log.info("Acquired scheduler lock {} as {}", name, owner);
+            }
+        } else if (held.remove(name)) {
+            log.info("Lost scheduler lock {}", name);
+        }
+        return acquired;
+    }
+
+    /**
+     * Give up the named lock if this instance holds it.
+     */
+    public void release(String name) {
+        if (!held.remove(name)) {
+            return;
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> schedulerLockRepository.release(name, owner, new Date()));
+    }
+
+    // Hand the leases over right away instead of letting them time out
+    @PreDestroy
+    public void releaseAll() {
+        for (String name : Set.copyOf(held)) {
+            try {
+                release(name);
+            } catch (RuntimeException e) {
+                log.warn("Could not release scheduler lock {}", name, e);
+            }
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
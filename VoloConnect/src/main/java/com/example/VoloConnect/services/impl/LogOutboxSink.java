@@ -0,0 +1,25 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.OutboxMessage;
+import com.example.VoloConnect.services.OutboxSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes every outbox message to the {@code voloconnect.outbox} logger, which
+ * can be routed to its own file through the logging configuration.
+ */
+@Component
+@ConditionalOnProperty(name = "voloconnect.outbox.log-sink.enabled", havingValue = "true", matchIfMissing = true)
+public class LogOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger("voloconnect.outbox");
+
+    @Override
+    public void deliver(OutboxMessage message) {
+        log.info("{} id={} aggregate={} payload={}",
+                message.type(), message.id(), message.aggregateId(), message.payload());
+    }
+}
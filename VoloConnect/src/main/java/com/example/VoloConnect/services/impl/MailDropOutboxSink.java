@@ -0,0 +1,96 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.OutboxMessage;
+import com.example.VoloConnect.services.OutboxSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Stand-in for an SMTP server: writes the notification email of each outbox
+ * message as an RFC 822 {@code .eml} file into a drop directory, where a mail
+ * forwarder (or a developer) can pick it up.
+ *
+ * Files are named after the message ID and written atomically, so a repeated
+ * delivery overwrites the same file instead of sending a second email.
+ */
+@Component
+@ConditionalOnProperty(name = "voloconnect.outbox.mail-drop.dir")
+public class MailDropOutboxSink implements OutboxSink {
+
+    @Value("${voloconnect.outbox.mail-drop.dir}")
+    private Path directory;
+
+    @Value("${voloconnect.outbox.mail-drop.from:no-reply@voloconnect.local}")
+    private String from;
+
+    @Override
+    public void deliver(OutboxMessage message) {
+        Map<String, Object> payload = message.payload();
+        Object to = payload.get("email");
+        if (to == null) {
+            return;
+        }
+
+        String subject;
+        String body;
+        switch (message.type()) {
+            case VOLUNTEER_ASSIGNED:
+                subject = "You are signed up for " + payload.get("eventTitle");
+                body = "Hi " + payload.get("volunteerName") + ",\n\nYou are signed up for "
+                        + payload.get("eventTitle") + " on " + payload.get("eventDate")
+                        + " as " + payload.get("role") + ".\n";
+                break;
+            case VOLUNTEER_REMOVED:
+                subject = "You are no longer signed up for " + payload.get("eventTitle");
+                body = "Hi " + payload.get("volunteerName") + ",\n\nYou have been removed from "
+                        + payload.get("eventTitle") + " on " + payload.get("eventDate") + ".\n";
+                break;
+            case VOLUNTEER_ROLE_CHANGED:
+                subject = "Your role for " + payload.get("eventTitle") + " changed";
+                body = "Hi " + payload.get("volunteerName") + ",\n\nYour role for "
+                        + payload.get("eventTitle") + " is now " + payload.get("role") + ".\n";
+                break;
+            case QUERY_RESPONDED:
+                subject = "Re: " + payload.get("subject");
+                body = "Hi " + payload.get("name") + ",\n\n" + payload.get("response") + "\n";
+                break;
+            default:
+                return;
+        }
+
+        String eml = "Message-ID: <outbox-" + message.id() + "@voloconnect>\r\n"
+                + "Date: " + DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now()) + "\r\n"
+                + "From: " + from + "\r\n"
+                + "To: " + headerValue(to) + "\r\n"
+                + "Subject: " + headerValue(subject) + "\r\n"
+                + "Content-Type: text/plain; charset=UTF-8\r\n"
+                + "\r\n"
+                + body.replace("\n", "\r\n");
+
+        try {
+            Files.createDirectories(directory);
+            Path target = directory.resolve("outbox-" + message.id() + ".eml");
+            Path temp = Files.createTempFile(directory, "outbox-" + message.id(), ".tmp");
+            Files.writeString(temp, eml, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write mail for outbox event " + message.id(), e);
+        }
+    }
+
+    // Header values must stay on one line
+    private static String headerValue(Object value) {
+        return String.valueOf(value).replaceAll("[\\r\\n]+", " ");
+    }
+}
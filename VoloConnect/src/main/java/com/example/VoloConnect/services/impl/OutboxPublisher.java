@@ -0,0 +1,43 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.models.OutboxEvent;
+import com.example.VoloConnect.models.OutboxEvent.EventType;
+import com.example.VoloConnect.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Records domain events in the outbox table.
+ * 
+ * Must run inside the transaction of the change being published, so the
+ * event is stored if and only if the change commits; OutboxRelay delivers it
+ * afterwards, off the request path.
+ */
+@Component
+public class OutboxPublisher {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(EventType type, Long aggregateId, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload is not serializable", e);
+        }
+        
+        outboxEventRepository.save(new OutboxEvent(type, aggregateId, json, new Date()));
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.OutboxMessage;
+import com.example.VoloConnect.models.OutboxEvent;
+import com.example.VoloConnect.models.OutboxEvent.OutboxStatus;
+import com.example.VoloConnect.repository.OutboxEventRepository;
+import com.example.VoloConnect.services.OutboxSink;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers outbox events to every OutboxSink, at least once.
+ *
+ * Each poll takes a batch of due events in ID order and hands them to a
+ * small, bounded worker pool; the next batch is only fetched once the current
+ * one is done, so a slow sink lets the backlog wait in the table instead of
+ * piling up in memory. Failed events are retried with exponential backoff
+ * until they run out of attempts. Only the instance holding the relay lock
+ * delivers.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    static final String LOCK_NAME = "outbox-relay";
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private List<OutboxSink> sinks;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private LeaderLock leaderLock;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${voloconnect.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${voloconnect.outbox.workers:4}")
+    private int workers;
+
+    @Value("${voloconnect.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${voloconnect.outbox.initial-backoff:PT5S}")
+    private Duration initialBackoff;
+
+    @Value("${voloconnect.outbox.max-backoff:PT30M}")
+    private Duration maxBackoff;
+
+    @Value("${voloconnect.outbox.retention:P7D}")
+    private Duration retention;
+
+    @Value("${voloconnect.outbox.lock-lease:PT1M}")
+    private Duration lockLease;
+
+    @Value("${voloconnect.outbox.pending-count-interval:PT15S}")
+    private Duration pendingCountInterval;
+
+    private ThreadPoolExecutor executor;
+
+    // Last count of pending events, for the gauge
+    private volatile double pending = Double.NaN;
+
+    private long pendingCountedAt;
+
+    @PostConstruct
+    public void start() {
+        // The queue holds at most one batch; the relay waits for each batch before fetching the next
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize), new ThreadPoolExecutor.CallerRunsPolicy());
+
+        // Read from the value the relay keeps, so scrapes never query the table
+        Gauge.builder("voloconnect.outbox.pending", this, relay -> relay.pending)
+                .description("Outbox events waiting for delivery; NaN on instances not running the relay")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // Drain due events until a batch comes back short
+    @Scheduled(fixedDelayString = "${voloconnect.outbox.poll-interval:PT1S}")
+    public void relay() {
+        long leaseEnds = System.currentTimeMillis() + lockLease.toMillis();
+        if (!leaderLock.tryAcquire(LOCK_NAME, lockLease)) {
+            pending = Double.NaN;
+            return;
+        }
+
+        try {
+            while (true) {
+                List<OutboxEvent> batch = outboxEventRepository.findDue(OutboxStatus.PENDING, new Date(),
+                        PageRequest.ofSize(batchSize));
+                if (batch.isEmpty()) {
+                    return;
+                }
+
+                deliver(batch);
+                if (batch.size() < batchSize) {
+                    return;
+                }
+
+                // Renew only once less than half the lease is left, not on every batch
+                long now = System.currentTimeMillis();
+                if (leaseEnds - now < lockLease.toMillis() / 2) {
+                    leaseEnds = now + lockLease.toMillis();
+                    if (!leaderLock.tryAcquire(LOCK_NAME, lockLease)) {
+                        return;
+                    }
+                }
+            }
+        } finally {
+            countPending();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${voloconnect.outbox.cleanup-interval:PT1H}")
+    public void cleanup() {
+        if (!leaderLock.tryAcquire(LOCK_NAME, lockLease)) {
+            return;
+        }
+
+        Date before = new Date(System.currentTimeMillis() - retention.toMillis());
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteDeliveredBefore(OutboxStatus.DELIVERED, before));
+        if (deleted != null && deleted > 0) {
+            log.debug("Deleted {} delivered outbox events", deleted);
+        }
+    }
+
+    // Recount pending events at most once per interval; relay runs are serial, so no locking is needed
+    private void countPending() {
+        long now = System.currentTimeMillis();
+        if (!Double.isNaN(pending) && now - pendingCountedAt < pendingCountInterval.toMillis()) {
+            return;
+        }
+        try {
+            pending = outboxEventRepository.countByStatus(OutboxStatus.PENDING);
+            pendingCountedAt = now;
+        } catch (RuntimeException e) {
+            log.debug("Could not count pending outbox events", e);
+        }
+    }
+
+    private void deliver(List<OutboxEvent> batch) {
+        List<CompletableFuture<String>> attempts = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            attempts.add(CompletableFuture.supplyAsync(() -> deliver(event), executor));
+        }
+
+        List<Long> delivered = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            String error = attempts.get(i).join();
+            if (error == null) {
+                delivered.add(batch.get(i).getId());
+            } else {
+                failed.add(batch.get(i));
+                errors.add(error);
+            }
+        }
+
+        Date now = new Date();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                outboxEventRepository.markDelivered(delivered, OutboxStatus.DELIVERED, now);
+            }
+            for (int i = 0; i < failed.size(); i++) {
+                markFailed(failed.get(i), errors.get(i), now);
+            }
+        });
+
+        meterRegistry.counter("voloconnect.outbox.delivered").increment(delivered.size());
+    }
+
+    // Hand one event to every sink; returns the error, or null when all sinks took it
+    private String deliver(OutboxEvent event) {
+        try {
+            OutboxMessage message = new OutboxMessage(event.getId(), event.getType(), event.getAggregateId(),
+                    objectMapper.readValue(event.getPayload(), PAYLOAD_TYPE), event.getCreatedAt());
+            for (OutboxSink sink : sinks) {
+                sink.deliver(message);
+            }
+            return null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("Delivery of outbox event {} failed", event.getId(), e);
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+
+    private void markFailed(OutboxEvent event, String error, Date now) {
+        int attempts = event.getAttempts() + 1;
+        String lastError = error.length() > 1000 ? error.substring(0, 1000) : error;
+
+        if (attempts >= maxAttempts) {
+            outboxEventRepository.markFailed(event.getId(), OutboxStatus.FAILED, attempts, now, lastError);
+            meterRegistry.counter("voloconnect.outbox.failed").increment();
+            log.warn("Giving up on outbox event {} ({}) after {} attempts: {}",
+                    event.getId(), event.getType(), attempts, lastError);
+            return;
+        }
+
+        // 1x, 2x, 4x, ... the initial backoff, capped at the maximum
+        long backoff = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempts - 1, 30));
+        outboxEventRepository.markFailed(event.getId(), OutboxStatus.PENDING, attempts,
+                new Date(now.getTime() + backoff), lastError);
+        meterRegistry.counter("voloconnect.outbox.retried").increment();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.KeysetPage;
+import com.example.VoloConnect.dto.QuerySummary;
+import com.example.VoloConnect.models.Query.QueryStatus;
+import com.example.VoloConnect.repository.QueryRepository;
+import com.example.VoloConnect.services.QueryInboxService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class QueryInboxServiceImpl implements QueryInboxService {
+
+    private static final int MAX_LIMIT = 200;
+
+    @Autowired
+    private QueryRepository queryRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<QuerySummary> getInbox(QueryStatus status, Long beforeId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        
+        // Fetch one extra row to find out whether another page exists without a COUNT query
+        PageRequest firstRows = PageRequest.ofSize(limit + 1);
+        List<QuerySummary> rows;
+        if (status == null) {
+            rows = beforeId == null
+                    ? queryRepository.findAllInboxPage(firstRows)
+                    : queryRepository.findAllInboxPageBefore(beforeId, firstRows);
+        } else {
+            rows = beforeId == null
+                    ? queryRepository.findInboxPage(status, firstRows)
+                    : queryRepository.findInboxPageBefore(status, beforeId, firstRows);
+        }
+        
+        boolean hasNext = rows.size() > limit;
+        if (hasNext) {
+            rows = rows.subList(0, limit);
+        }
+        
+        Long nextCursor = hasNext ? rows.get(rows.size() - 1).id() : null;
+        return new KeysetPage<>(rows, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.exceptions.ResourceNotFoundException;
+import com.example.VoloConnect.models.OutboxEvent.EventType;
+import com.example.VoloConnect.models.Query;
+import com.example.VoloConnect.models.Query.QueryStatus;
+import com.example.VoloConnect.repository.QueryRepository;
+import com.example.VoloConnect.services.QueryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class QueryServiceImpl implements QueryService {
+
+    @Autowired
+    private QueryRepository queryRepository;
+    
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+    
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    @Override
+    @Transactional
+    public Query submitQuery(Query query) {
+        query.setId(null);
+        query.setResponse(null);
+        query.setStatus(QueryStatus.PENDING);
+        query = queryRepository.save(query);
+        dashboardCounters.add(DashboardCounters.queries(QueryStatus.PENDING), 1);
+        return query;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Query getQuery(Long queryId) {
+        return queryRepository.findById(queryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Query not found"));
+    }
+
+    @Override
+    @Transactional
+    public Query respondToQuery(Long queryId, String response, QueryStatus status) {
+        Query query = getQuery(queryId);
+        QueryStatus previous = query.getStatus();
+        
+        query.setResponse(response);
+        query.setStatus(status == null ? QueryStatus.RESPONDED : status);
+        dashboardCounters.move(DashboardCounters.queries(previous), DashboardCounters.queries(query.getStatus()));
+        query = queryRepository.save(query);
+        
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("queryId", query.getId());
+        payload.put("name", query.getName());
+        payload.put("email", query.getEmail());
+        payload.put("subject", query.getSubject());
+        payload.put("response", query.getResponse());
+        payload.put("status", query.getStatus());
+        outboxPublisher.publish(EventType.QUERY_RESPONDED, query.getId(), payload);
+        return query;
+    }
+
+    @Override
+    @Transactional
+    public void deleteQuery(Long queryId) {
+        Query query = getQuery(queryId);
+        queryRepository.delete(query);
+        dashboardCounters.add(DashboardCounters.queries(query.getStatus()), -1);
+    }
+}
@@ -0,0 +1,361 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.Recommendations;
+import com.example.VoloConnect.dto.RosterEntry;
+import com.example.VoloConnect.dto.SkillToken;
+import com.example.VoloConnect.dto.VolunteerActivity;
+import com.example.VoloConnect.dto.VolunteerRecommendation;
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Event.EventStatus;
+import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
+import com.example.VoloConnect.models.VolunteerSkill;
+import com.example.VoloConnect.repository.EventVolunteerRepository;
+import com.example.VoloConnect.repository.VolunteerRepository;
+import com.example.VoloConnect.repository.VolunteerSkillRepository;
+import com.example.VoloConnect.services.RecommendationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Scores active volunteers for an event and returns the top candidates.
+ *
+ * Scoring runs against an in-memory snapshot of per-volunteer features
+ * (skills as posting lists, completed and active assignment counts) that is
+ * reloaded on a schedule, so a request touches the database only to load the
+ * event and its roster. The scan is split into chunks scored in parallel,
+ * each keeping its own bounded top-K heap; chunks stop at the latency budget
+ * and the best candidates found so far are returned.
+ */
+@Service
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationServiceImpl.class);
+
+    static final int MAX_LIMIT = 100;
+
+    // Relative weight of each feature; they add up to 1
+    private static final double SKILL_WEIGHT = 0.5;
+    private static final double AVAILABILITY_WEIGHT = 0.25;
+    private static final double EXPERIENCE_WEIGHT = 0.15;
+    private static final double LOAD_WEIGHT = 0.1;
+
+    // Longest multi-word skill looked for in the event text, e.g. "first aid certified"
+    private static final int MAX_SKILL_WORDS = 3;
+    private static final int MIN_CHUNK_SIZE = 4096;
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+
+    @Autowired
+    private VolunteerSkillRepository volunteerSkillRepository;
+
+    @Autowired
+    private EventVolunteerRepository eventVolunteerRepository;
+
+    @Autowired
+    private CachedEntityLookup cachedEntityLookup;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Assumed length of an event when checking availability, since events only have a start
+    @Value("${voloconnect.recommendations.event-duration:PT2H}")
+    private Duration eventDuration;
+
+    @Value("${voloconnect.recommendations.latency-budget:PT0.2S}")
+    private Duration latencyBudget;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @Override
+    public Recommendations recommendVolunteers(Long eventId, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        int k = Math.min(limit, MAX_LIMIT);
+
+        Event event = cachedEntityLookup.getEvent(eventId);
+        Snapshot features = snapshot;
+        List<int[]> eventSkills = findEventSkills(features, event);
+        BitSet available = findAvailable(event);
+        BitSet assigned = findAssigned(features, eventId);
+
+        // The budget covers scoring only; slow lookups above must not leave it nothing to spend
+        long deadline = System.nanoTime() + latencyBudget.toNanos();
+        Request request = new Request(features, eventSkills, available, assigned, deadline);
+
+        // Score chunks in parallel, each into its own bounded heap
+        int size = features.ids.length;
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+        List<CompletableFuture<PriorityQueue<Candidate>>> chunks = new ArrayList<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(size, from + chunkSize);
+            chunks.add(CompletableFuture.supplyAsync(() -> scoreRange(request, start, end, k)));
+        }
+
+        PriorityQueue<Candidate> top = new PriorityQueue<>(k + 1, Candidate.WORST_FIRST);
+        for (CompletableFuture<PriorityQueue<Candidate>> chunk : chunks) {
+            for (Candidate candidate : chunk.join()) {
+                offer(top, candidate, k);
+            }
+        }
+
+        if (request.cutShort) {
+            log.debug("Recommendations for event {} hit the latency budget; returning a partial ranking", eventId);
+        }
+
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(Candidate.WORST_FIRST.reversed());
+
+        List<VolunteerRecommendation> recommendations = new ArrayList<>();
+        for (Candidate candidate : ranked) {
+            int i = candidate.index();
+            recommendations.add(new VolunteerRecommendation(features.ids[i], features.names[i], candidate.score(),
+                    request.skillMatches(i), request.isAvailable(i), features.completed[i], features.active[i]));
+        }
+        return new Recommendations(recommendations, request.cutShort);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int refresh() {
+        List<VolunteerActivity> activity = volunteerRepository.findActivityByStatus(VolunteerStatus.ACTIVE,
+                EventStatus.COMPLETED, EnumSet.of(EventStatus.UPCOMING, EventStatus.ONGOING));
+
+        int size = activity.size();
+        long[] ids = new long[size];
+        String[] names = new String[size];
+        int[] completed = new int[size];
+        int[] active = new int[size];
+        int maxCompleted = 0;
+        for (int i = 0; i < size; i++) {
+            VolunteerActivity row = activity.get(i);
+            ids[i] = row.volunteerId();
+            names[i] = row.name();
+            completed[i] = row.completedEvents().intValue();
+            active[i] = row.activeAssignments().intValue();
+            maxCompleted = Math.max(maxCompleted, completed[i]);
+        }
+
+        // Invert skills into posting lists of snapshot positions
+        Map<String, List<Integer>> postings = new HashMap<>();
+        for (SkillToken token : volunteerSkillRepository.findTokensByVolunteerStatus(VolunteerStatus.ACTIVE)) {
+            int i = Arrays.binarySearch(ids, token.volunteerId());
+            if (i >= 0) {
+                postings.computeIfAbsent(token.skill(), skill -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<String, int[]> skills = new HashMap<>();
+        postings.forEach((skill, positions) ->
+                skills.put(skill, positions.stream().mapToInt(Integer::intValue).toArray()));
+
+        snapshot = new Snapshot(ids, names, completed, active, maxCompleted, skills);
+        log.debug("Rebuilt recommendation snapshot with {} volunteers and {} skills", size, skills.size());
+        return size;
+    }
+
+    @Scheduled(fixedDelayString = "${voloconnect.recommendations.refresh-interval:PT5M}",
+            initialDelayString = "${voloconnect.recommendations.refresh-interval:PT5M}")
+    public void scheduledRefresh() {
+        refreshInTransaction();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshInTransaction();
+    }
+
+    // Calls from inside this class bypass the proxy, so @Transactional on refresh() would not apply
+    private void refreshInTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.execute(status -> refresh());
+    }
+
+    private static PriorityQueue<Candidate> scoreRange(Request request, int start, int end, int k) {
+        PriorityQueue<Candidate> top = new PriorityQueue<>(k + 1, Candidate.WORST_FIRST);
+        for (int i = start; i < end; i++) {
+            // Every chunk scores at least its first stretch, so a late start still yields candidates
+            if (i > start && (i - start) % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - request.deadline > 0) {
+                request.cutShort = true;
+                break;
+            }
+            if (request.assigned.get(i)) {
+                continue;
+            }
+
+            double score = request.score(i);
+            if (top.size() < k || score > top.peek().score()) {
+                offer(top, new Candidate(i, score), k);
+            }
+        }
+        return top;
+    }
+
+    private static void offer(PriorityQueue<Candidate> top, Candidate candidate, int k) {
+        top.add(candidate);
+        if (top.size() > k) {
+            top.poll();
+        }
+    }
+
+    // Find the known skills mentioned in the event title and description, as one- to three-word phrases
+    private static List<int[]> findEventSkills(Snapshot features, Event event) {
+        String text = (event.getTitle() == null ? "" : event.getTitle()) + " "
+                + (event.getDescription() == null ? "" : event.getDescription());
+        String[] words = text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+");
+        
+        Set<String> seen = new HashSet<>();
+        List<int[]> postings = new ArrayList<>();
+        for (int first = 0; first < words.length; first++) {
+            StringBuilder phrase = new StringBuilder();
+            for (int last = first; last < Math.min(words.length, first + MAX_SKILL_WORDS); last++) {
+                if (words[last].isEmpty()) {
+                    break;
+                }
+                if (phrase.length() > 0) {
+                    phrase.append(' ');
+                }
+                phrase.append(words[last]);
+                
+                String skill = VolunteerSkill.normalize(phrase.toString());
+                int[] positions = features.skills.get(skill);
+                if (positions != null && seen.add(skill)) {
+                    postings.add(positions);
+                }
+            }
+        }
+        return postings;
+    }
+
+    private BitSet findAvailable(Event event) {
+        if (event.getDate() == null) {
+            return new BitSet();
+        }
+
+        ZonedDateTime start = event.getDate().toInstant().atZone(availabilityIndex.getZone());
+        return availabilityIndex.findAvailableSet(start, start.plus(eventDuration));
+    }
+
+    // Snapshot positions of the volunteers already assigned to the event
+    private BitSet findAssigned(Snapshot features, Long eventId) {
+        BitSet assigned = new BitSet(features.ids.length);
+        for (RosterEntry entry : eventVolunteerRepository.findRosterByEventId(eventId)) {
+            int i = Arrays.binarySearch(features.ids, entry.volunteerId());
+            if (i >= 0) {
+                assigned.set(i);
+            }
+        }
+        return assigned;
+    }
+
+    // Per-request inputs shared read-only by all chunks
+    private static final class Request {
+
+        final Snapshot features;
+        // Number of event skills each volunteer has, by snapshot position
+        final int[] skillMatches;
+        final int eventSkills;
+        final BitSet available;
+        final BitSet assigned;
+        final long deadline;
+        final double experienceScale;
+        // Set by any chunk that stopped at the deadline
+        volatile boolean cutShort;
+
+        Request(Snapshot features, List<int[]> eventSkills, BitSet available, BitSet assigned, long deadline) {
+            this.features = features;
+            this.skillMatches = new int[features.ids.length];
+            for (int[] positions : eventSkills) {
+                for (int i : positions) {
+                    skillMatches[i]++;
+                }
+            }
+            this.eventSkills = eventSkills.size();
+            this.available = available;
+            this.assigned = assigned;
+            this.deadline = deadline;
+            this.experienceScale = features.maxCompleted > 0 ? Math.log1p(features.maxCompleted) : 1;
+        }
+
+        int skillMatches(int i) {
+            return skillMatches[i];
+        }
+
+        boolean isAvailable(int i) {
+            long id = features.ids[i];
+            return id <= Integer.MAX_VALUE && available.get((int) id);
+        }
+
+        double score(int i) {
+            double skill = eventSkills > 0 ? (double) skillMatches[i] / eventSkills : 0;
+            double availability = isAvailable(i) ? 1 : 0;
+            double experience = Math.log1p(features.completed[i]) / experienceScale;
+            double load = 1.0 / (1 + features.active[i]);
+            return SKILL_WEIGHT * skill + AVAILABILITY_WEIGHT * availability
+                    + EXPERIENCE_WEIGHT * experience + LOAD_WEIGHT * load;
+        }
+    }
+
+    // Features of all active volunteers, indexed by position in ascending ID order
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new String[0], new int[0], new int[0], 0, Map.of());
+
+        final long[] ids;
+        final String[] names;
+        final int[] completed;
+        final int[] active;
+        final int maxCompleted;
+        // Normalized skill to the positions of the volunteers having it
+        final Map<String, int[]> skills;
+
+        Snapshot(long[] ids, String[] names, int[] completed, int[] active, int maxCompleted,
+                 Map<String, int[]> skills) {
+            this.ids = ids;
+            this.names = names;
+            this.completed = completed;
+            this.active = active;
+            this.maxCompleted = maxCompleted;
+            this.skills = skills;
+        }
+    }
+
+    private record Candidate(int index, double score) {
+
+        // Lowest score first, so the heap head is the one to drop; ties favour lower (older) IDs
+        static final Comparator<Candidate> WORST_FIRST = Comparator.comparingDouble(Candidate::score)
+                .thenComparing(Comparator.comparingInt(Candidate::index).reversed());
+    }
+}
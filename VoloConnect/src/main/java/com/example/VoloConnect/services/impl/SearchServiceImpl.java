@@ -0,0 +1,84 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.QuerySummary;
+import com.example.VoloConnect.dto.SearchPage;
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Query;
+import com.example.VoloConnect.services.SearchService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.mapper.orm.Search;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchPage<Event> searchEvents(String text, int page, int size) {
+        validate(text, page, size);
+        
+        SearchResult<Event> result = Search.session(entityManager)
+                .search(Event.class)
+                .where(f -> f.simpleQueryString()
+                        .field("title").boost(2.0f)
+                        .fields("description", "location")
+                        .matching(text)
+                        .defaultOperator(BooleanOperator.AND))
+                .fetch(page * size, size);
+        
+        return new SearchPage<>(result.hits(), result.total().hitCount(), page, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SearchPage<QuerySummary> searchQueries(String text, int page, int size) {
+        validate(text, page, size);
+        
+        SearchResult<Query> result = Search.session(entityManager)
+                .search(Query.class)
+                .where(f -> f.simpleQueryString()
+                        .field("subject").boost(2.0f)
+                        .field("message")
+                        .matching(text)
+                        .defaultOperator(BooleanOperator.AND))
+                .fetch(page * size, size);
+        
+        List<QuerySummary> summaries = result.hits().stream()
+                .map(query -> new QuerySummary(query.getId(), query.getName(), query.getEmail(),
+                        query.getSubject(), query.getStatus(), query.getCreatedAt()))
+                .collect(Collectors.toList());
+        return new SearchPage<>(summaries, result.total().hitCount(), page, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void reindex() throws InterruptedException {
+        Search.session(entityManager)
+                .massIndexer(Event.class, Query.class)
+                .startAndWait();
+    }
+    
+    private static void validate(String text, int page, int size) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search text is required");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.AvailabilityWindow;
+import com.example.VoloConnect.exceptions.ConflictException;
+import com.example.VoloConnect.exceptions.ResourceNotFoundException;
+import com.example.VoloConnect.models.ImportJob;
+import com.example.VoloConnect.models.ImportJob.ImportStatus;
+import com.example.VoloConnect.models.ImportRowError;
+import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
+import com.example.VoloConnect.models.VolunteerSkill;
+import com.example.VoloConnect.repository.ImportJobRepository;
+import com.example.VoloConnect.repository.ImportRowErrorRepository;
+import com.example.VoloConnect.services.VolunteerImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk volunteer import from CSV.
+ *
+ * The upload is copied to disk, then read one record at a time and imported
+ * in chunks, each in its own transaction: validate, drop emails already in
+ * the file or in the database (one IN lookup per chunk), insert volunteers,
+ * skills and availability with JDBC batches, store the row errors and move
+ * the job's processedRows forward. A crash therefore loses at most the chunk
+ * in flight, and resuming skips the rows already committed.
+ */
+@Service
+public class VolunteerImportServiceImpl implements VolunteerImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerImportServiceImpl.class);
+
+    static final int MAX_ERRORS_LIMIT = 1000;
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "email", "phone");
+    private static final Set<String> KNOWN_COLUMNS = Set.of(
+            "name", "email", "phone", "skills", "availability", "bio", "preferences", "status");
+
+    private static final String INSERT_VOLUNTEER = "insert into volunteers "
+            + "(name, email, phone, skills, availability, bio, preferences, status, version) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_SKILL = "insert into volunteer_skills (volunteer_id, skill) values (?, ?)";
+    private static final String INSERT_AVAILABILITY = "insert into volunteer_availability "
+            + "(volunteer_id, day_of_week, specific_date, start_minute, end_minute) values (?, ?, ?, ?, ?)";
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private ImportRowErrorRepository importRowErrorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Autowired
+    private DashboardCounters dashboardCounters;
+
+    // Where uploads are kept until their import completes
+    @Value("${voloconnect.import.dir:data/imports}")
+    private Path directory;
+
+    @Value("${voloconnect.import.chunk-size:1000}")
+    private int chunkSize;
+
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public ImportJob startImport(String fileName, InputStream csv) throws IOException {
+        ImportJob job = new ImportJob();
+        job.setFileName(fileName);
+        job = importJobRepository.save(job);
+
+        try {
+            Files.createDirectories(directory);
+            Files.copy(csv, uploadPath(job.getId()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            finish(job.getId(), ImportStatus.FAILED, "Could not store the upload");
+            throw e;
+        }
+
+        submit(job.getId());
+        return job;
+    }
+
+    @Override
+    public ImportJob resumeImport(Long jobId) {
+        ImportJob job = getJob(jobId);
+        if (job.getStatus() == ImportStatus.COMPLETED) {
+            throw new ConflictException("Import already completed");
+        }
+        if (running.contains(jobId)) {
+            throw new ConflictException("Import is already running");
+        }
+        if (!Files.exists(uploadPath(jobId))) {
+            throw new ConflictException("The uploaded file of this import is no longer available");
+        }
+
+        job.setStatus(ImportStatus.RUNNING);
+        job.setFailureMessage(null);
+        job = importJobRepository.save(job);
+
+        submit(jobId);
+        return job;
+    }
+
+    @Override
+    public ImportJob getJob(Long jobId) {
+        return importJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import job not found"));
+    }
+
+    @Override
+    public List<ImportRowError> getErrors(Long jobId, int limit) {
+        getJob(jobId);
+        return importRowErrorRepository.findByJobIdOrderByRowNumber(jobId,
+                PageRequest.ofSize(Math.max(1, Math.min(limit, MAX_ERRORS_LIMIT))));
+    }
+
+    private void submit(Long jobId) {
+        if (!running.add(jobId)) {
+            throw new ConflictException("Import is already running");
+        }
+
+        taskExecutor.execute(() -> {
+            try {
+                run(jobId);
+            } finally {
+                running.remove(jobId);
+            }
+        });
+    }
+
+    private void run(Long jobId) {
+        Path upload = uploadPath(jobId);
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(upload, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readHeader(reader.next());
+
+            // Skip what earlier runs already committed
+            int rowNumber = getJob(jobId).getProcessedRows();
+            for (int i = 0; i < rowNumber; i++) {
+                reader.next();
+            }
+
+            while (true) {
+                List<CsvRow> chunk = new ArrayList<>(chunkSize);
+                List<String> fields;
+                while (chunk.size() < chunkSize && (fields = reader.next()) != null) {
+                    chunk.add(new CsvRow(++rowNumber, fields));
+                }
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                importChunkWithRetry(jobId, columns, chunk);
+            }
+
+            finish(jobId, ImportStatus.COMPLETED, null);
+            Files.deleteIfExists(upload);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Volunteer import {} failed", jobId, e);
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            finish(jobId, ImportStatus.FAILED, message.length() > 1000 ? message.substring(0, 1000) : message);
+        }
+    }
+
+    private void importChunkWithRetry(Long jobId, Map<String, Integer> columns, List<CsvRow> chunk) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> importChunk(jobId, columns, chunk));
+                return;
+            } catch (DuplicateKeyException e) {
+                // An email was registered after this chunk checked for it; the next attempt will see it
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void importChunk(Long jobId, Map<String, Integer> columns, List<CsvRow> chunk) {
+        List<ImportRowError> errors = new ArrayList<>();
+        Map<String, CsvRow> candidates = new LinkedHashMap<>();
+        int invalid = 0;
+        int duplicates = 0;
+
+        for (CsvRow row : chunk) {
+            if (row.fields().size() == 1 && row.fields().get(0).isBlank()) {
+                continue;
+            }
+
+            String error = validate(row, columns);
+            if (error != null) {
+                errors.add(new ImportRowError(jobId, row.number(), error));
+                invalid++;
+                continue;
+            }
+
+            String key = value(row, columns, "email").toLowerCase(Locale.ROOT);
+            if (candidates.containsKey(key)) {
+                errors.add(new ImportRowError(jobId, row.number(), "Duplicate email in file"));
+                duplicates++;
+                continue;
+            }
+            candidates.put(key, row);
+        }
+
+        // One IN lookup for the whole chunk; earlier chunks are committed, so this also covers them
+        if (!candidates.isEmpty()) {
+            List<String> emails = new ArrayList<>();
+            candidates.values().forEach(row -> emails.add(value(row, columns, "email")));
+            for (String existing : namedParameterJdbcTemplate.queryForList(
+                    "select email from volunteers where email in (:emails)", Map.of("emails", emails), String.class)) {
+                CsvRow row = candidates.remove(existing.toLowerCase(Locale.ROOT));
+                if (row != null) {
+                    errors.add(new ImportRowError(jobId, row.number(), "Email already registered"));
+                    duplicates++;
+                }
+            }
+        }
+
+        insertVolunteers(columns, candidates);
+
+        importRowErrorRepository.saveAll(errors);
+        ImportJob job = getJob(jobId);
+        job.setProcessedRows(chunk.get(chunk.size() - 1).number());
+        job.setImportedRows(job.getImportedRows() + candidates.size());
+        job.setDuplicateRows(job.getDuplicateRows() + duplicates);
+        job.setErrorRows(job.getErrorRows() + invalid);
+        importJobRepository.save(job);
+    }
+
+    private void insertVolunteers(Map<String, Integer> columns, Map<String, CsvRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> volunteers = new ArrayList<>(rows.size());
+        List<String> emails = new ArrayList<>(rows.size());
+        for (CsvRow row : rows.values()) {
+            String status = value(row, columns, "status");
+            String email = value(row, columns, "email");
+            emails.add(email);
+            volunteers.add(new Object[] {
+                    value(row, columns, "name"), email, value(row, columns, "phone"),
+                    blankToNull(value(row, columns, "skills")), blankToNull(value(row, columns, "availability")),
+                    blankToNull(value(row, columns, "bio")), blankToNull(value(row, columns, "preferences")),
+                    status.isEmpty() ? VolunteerStatus.PENDING.name() : status.toUpperCase(Locale.ROOT)
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_VOLUNTEER, volunteers);
+        for (Object[] volunteer : volunteers) {
+            dashboardCounters.add(DashboardCounters.volunteers(VolunteerStatus.valueOf((String) volunteer[7])), 1);
+        }
+
+        // IDs are generated by the database; look them up by the (unique) emails just inserted
+        Map<String, Long> ids = new HashMap<>();
+        namedParameterJdbcTemplate.query("select id, email from volunteers where email in (:emails)",
+                Map.of("emails", emails),
+                resultSet -> {
+                    ids.put(resultSet.getString("email").toLowerCase(Locale.ROOT), resultSet.getLong("id"));
+                });
+
+        List<Object[]> skills = new ArrayList<>();
+        List<Object[]> slots = new ArrayList<>();
+        Map<Long, List<AvailabilityWindow>> windowsByVolunteer = new HashMap<>();
+        for (Map.Entry<String, CsvRow> entry : rows.entrySet()) {
+            Long volunteerId = ids.get(entry.getKey());
+            CsvRow row = entry.getValue();
+
+            for (String skill : VolunteerSkill.tokenize(value(row, columns, "skills"))) {
+                skills.add(new Object[] {volunteerId, skill});
+            }
+
+            List<AvailabilityWindow> windows = AvailabilityWindow.parse(value(row, columns, "availability"));
+            for (AvailabilityWindow window : windows) {
+                slots.add(new Object[] {volunteerId, window.dayOfWeek() == null ? null : window.dayOfWeek().name(),
+                        window.date(), window.startMinute(), window.endMinute()});
+            }
+            if (!windows.isEmpty()) {
+                windowsByVolunteer.put(volunteerId, windows);
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SKILL, skills);
+        jdbcTemplate.batchUpdate(INSERT_AVAILABILITY, slots);
+
+        AfterCommit.run(() -> windowsByVolunteer.forEach(availabilityIndex::replace));
+    }
+
+    private void finish(Long jobId, ImportStatus status, String failureMessage) {
+        ImportJob job = getJob(jobId);
+        job.setStatus(status);
+        job.setFailureMessage(failureMessage);
+        importJobRepository.save(job);
+    }
+
+    // Map column names to positions, checking the required ones are there
+    private static Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("The file is empty");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase(Locale.ROOT);
+            // Drop a UTF-8 byte order mark in front of the first column
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            if (KNOWN_COLUMNS.contains(name)) {
+                columns.putIfAbsent(name, i);
+            }
+        }
+
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("Missing required column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    // Return the reason a row cannot be imported, or null if it is fine
+    private static String validate(CsvRow row, Map<String, Integer> columns) {
+        for (String required : REQUIRED_COLUMNS) {
+            if (value(row, columns, required).isEmpty()) {
+                return "Missing " + required;
+            }
+        }
+        for (String column : List.of("name", "email", "phone")) {
+            if (value(row, columns, column).length() > MAX_TEXT_LENGTH) {
+                return column + " is longer than " + MAX_TEXT_LENGTH + " characters";
+            }
+        }
+
+        if (!EMAIL.matcher(value(row, columns, "email")).matches()) {
+            return "Invalid email";
+        }
+
+        String status = value(row, columns, "status");
+        if (!status.isEmpty()) {
+            try {
+                VolunteerStatus.valueOf(status.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return "Invalid status: " + status;
+            }
+        }
+        return null;
+    }
+
+    private static String value(CsvRow row, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= row.fields().size()) {
+            return "";
+        }
+        return row.fields().get(index).trim();
+    }
+
+    private static String blankToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private Path uploadPath(Long jobId) {
+        return directory.resolve("import-" + jobId + ".csv");
+    }
+
+    private record CsvRow(int number, List<String> fields) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.VoloConnect.services.impl;
+
+import com.example.VoloConnect.dto.AvailabilityWindow;
+import com.example.VoloConnect.models.VolunteerSkill;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Rebuilds the tables derived from volunteers' free-text profile fields for
+ * volunteers saved before those tables existed.
+ *
+ * Volunteers are walked in ID order, a chunk per transaction. The chunk's
+ * volunteer rows are locked while their derived rows are replaced, so a
+ * profile edit running at the same time waits instead of being overwritten
+ * with the old text. Runs once at startup when the derived table is empty,
+ * and on demand from the admin API.
+ */
+@Component
+public class VolunteerIndexBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerIndexBackfill.class);
+
+    static final String AVAILABILITY_LOCK = "availability-backfill";
+
+    static final String SKILLS_LOCK = "skills-backfill";
+
+    private static final String INSERT_SKILL = "insert into volunteer_skills (volunteer_id, skill) values (?, ?)";
+
+    private static final String INSERT_AVAILABILITY = "insert into volunteer_availability "
+            + "(volunteer_id, day_of_week, specific_date, start_minute, end_minute) values (?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private LeaderLock leaderLock;
+
+    @Value("${voloconnect.backfill.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${voloconnect.backfill.lock-lease:PT30M}")
+    private Duration lockLease;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (isEmpty("volunteer_availability") && !isEmpty("volunteers")
+                && leaderLock.tryAcquire(AVAILABILITY_LOCK, lockLease)) {
+            backfillAvailability();
+        }
+        if (isEmpty("volunteer_skills") && !isEmpty("volunteers")
+                && leaderLock.tryAcquire(SKILLS_LOCK, lockLease)) {
+            backfillSkills();
+        }
+    }
+
+    // Replace every volunteer's volunteer_skills rows with the tokens of their skills text
+    public int backfillSkills() {
+        int volunteers = forEachChunk("skills", texts -> {
+            namedParameterJdbcTemplate.update("delete from volunteer_skills where volunteer_id in (:ids)",
+                    Map.of("ids", texts.keySet()));
+
+            List<Object[]> skills = new ArrayList<>();
+            texts.forEach((volunteerId, text) -> {
+                for (String skill : VolunteerSkill.tokenize(text)) {
+                    skills.add(new Object[] {volunteerId, skill});
+                }
+            });
+            jdbcTemplate.batchUpdate(INSERT_SKILL, skills);
+        });
+
+        log.info("Backfilled skill tokens of {} volunteers", volunteers);
+        return volunteers;
+    }
+
+    // Replace every volunteer's volunteer_availability rows with the windows parsed from their availability text
+    public int backfillAvailability() {
+        int volunteers = forEachChunk("availability", texts -> {
+            namedParameterJdbcTemplate.update("delete from volunteer_availability where volunteer_id in (:ids)",
+                    Map.of("ids", texts.keySet()));
+
+            List<Object[]> slots = new ArrayList<>();
+            Map<Long, List<AvailabilityWindow>> windowsByVolunteer = new HashMap<>();
+            texts.forEach((volunteerId, text) -> {
+                List<AvailabilityWindow> windows = AvailabilityWindow.parse(text);
+                for (AvailabilityWindow window : windows) {
+                    slots.add(new Object[] {volunteerId,
+                            window.dayOfWeek() == null ? null : window.dayOfWeek().name(),
+                            window.date(), window.startMinute(), window.endMinute()});
+                }
+                windowsByVolunteer.put(volunteerId, windows);
+            });
+            jdbcTemplate.batchUpdate(INSERT_AVAILABILITY, slots);
+
+            AfterCommit.run(() -> windowsByVolunteer.forEach(availabilityIndex::replace));
+        });
+
+        log.info("Backfilled availability slots of {} volunteers", volunteers);
+        return volunteers;
+    }
+
+    // Hand each chunk of (volunteer ID, column text) to the writer, in its own transaction with the rows locked
+    private int forEachChunk(String column, Consumer<Map<Long, String>> writer) {
+        long after = 0;
+        int total = 0;
+        while (true) {
+            long from = after;
+            Map<Long, String> texts = transactionTemplate.execute(status -> {
+                Map<Long, String> chunk = new LinkedHashMap<>();
+                jdbcTemplate.query("select id, " + column + " from volunteers where id > ? order by id limit ? for update",
+                        resultSet -> {
+                            chunk.put(resultSet.getLong(1), resultSet.getString(2));
+                        }, from, chunkSize);
+                if (!chunk.isEmpty()) {
+                    writer.accept(chunk);
+                }
+                return chunk;
+            });
+
+            if (texts == null || texts.isEmpty()) {
+                return total;
+            }
+            total += texts.size();
+            for (Long volunteerId : texts.keySet()) {
+                after = volunteerId;
+            }
+        }
+    }
+
+    private boolean isEmpty(String table) {
+        return !Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists (select 1 from " + table + ")", Boolean.class));
+    }
+}
@@ -1,26 +1,52 @@
 package com.example.VoloConnect.services.impl;
 
+import com.example.VoloConnect.dto.AvailabilityWindow;
+import com.example.VoloConnect.dto.RoleStats;
+import com.example.VoloConnect.exceptions.ConflictException;
+import com.example.VoloConnect.exceptions.ResourceNotFoundException;
+import com.example.VoloConnect.models.AvailabilitySlot;
 import com.example.VoloConnect.models.Event;
-import com.example.VoloConnect.models.EventVolunteer;
 import com.example.VoloConnect.models.Volunteer;
 import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
+import com.example.VoloConnect.models.VolunteerSkill;
+import com.example.VoloConnect.repository.AvailabilitySlotRepository;
 import com.example.VoloConnect.repository.EventRepository;
 import com.example.VoloConnect.repository.EventVolunteerRepository;
 import com.example.VoloConnect.repository.VolunteerRepository;
+import com.example.VoloConnect.repository.VolunteerSkillRepository;
+import com.example.VoloConnect.repository.VolunteerSpecifications;
 import com.example.VoloConnect.services.VolunteerManagementService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
+@Timed(value = "voloconnect.service.volunteer.management", histogram = true)
 public class VolunteerManagementServiceImpl implements VolunteerManagementService {
 
+    // Profile attributes a volunteer may change through updateProfile
+    private static final List<String> PROFILE_FIELDS = List.of("bio", "skills", "availability", "preferences");
+
     @Autowired
     private VolunteerRepository volunteerRepository;
     
@@ -29,76 +55,154 @@ public class VolunteerManagementServiceImpl implements VolunteerManagementServic
     
     @Autowired
     private EventRepository eventRepository;
+    
+    @Autowired
+    private VolunteerSkillRepository volunteerSkillRepository;
+    
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+    
+    @Autowired
+    private CachedEntityLookup cachedEntityLookup;
+    
+    @Autowired
+    private DashboardCounters dashboardCounters;
+    
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+    
+    @Autowired
+    private VolunteerIndexBackfill volunteerIndexBackfill;
 
     @Override
     @Transactional
-    public boolean updateProfile(Long volunteerId, Map<String, String> profileData) {
-        Volunteer volunteer = volunteerRepository.findById(volunteerId)
-                .orElseThrow(() -> new RuntimeException("Volunteer not found"));
+    public Volunteer registerVolunteer(Volunteer volunteer) {
+        if (volunteerRepository.findByEmail(volunteer.getEmail()).isPresent()) {
+            throw new ConflictException("A volunteer with this email already exists");
+        }
         
-        if (profileData.containsKey("bio")) {
-            volunteer.setBio(profileData.get("bio"));
+        volunteer.setId(null);
+        if (volunteer.getStatus() == null) {
+            volunteer.setStatus(VolunteerStatus.PENDING);
         }
         
-        if (profileData.containsKey("skills")) {
-            volunteer.setSkills(profileData.get("skills"));
+        try {
+            volunteer = volunteerRepository.saveAndFlush(volunteer);
+        } catch (DataIntegrityViolationException e) {
+            // Concurrent registration with the same email
+            throw new ConflictException("A volunteer with this email already exists", e);
         }
         
-        if (profileData.containsKey("availability")) {
-            volunteer.setAvailability(profileData.get("availability"));
+        syncSkillIndex(volunteer.getId(), volunteer.getSkills());
+        syncAvailability(volunteer.getId(), volunteer.getAvailability());
+        dashboardCounters.add(DashboardCounters.volunteers(volunteer.getStatus()), 1);
+        return volunteer;
+    }
+
+    @Override
+    public Volunteer getVolunteer(Long volunteerId) {
+        return cachedEntityLookup.getVolunteer(volunteerId);
+    }
+
+    @Override
+    @Transactional
+    public boolean updateStatus(Long volunteerId, VolunteerStatus status, Long expectedVersion) {
+        VolunteerStatus previous = volunteerRepository.findStatusById(volunteerId).orElse(null);
+        updateColumns(volunteerId, Map.of("status", status), expectedVersion);
+        if (previous != null) {
+            dashboardCounters.move(DashboardCounters.volunteers(previous), DashboardCounters.volunteers(status));
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public boolean updateProfile(Long volunteerId, Map<String, String> profileData, Long expectedVersion) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (String field : PROFILE_FIELDS) {
+            if (profileData.containsKey(field)) {
+                changes.put(field, profileData.get(field));
+            }
         }
         
-        if (profileData.containsKey("preferences")) {
-            volunteer.setPreferences(profileData.get("preferences"));
+        if (changes.isEmpty()) {
+            cachedEntityLookup.getVolunteer(volunteerId);
+            return true;
         }
         
-        volunteerRepository.save(volunteer);
+        updateColumns(volunteerId, changes, expectedVersion);
+        if (changes.containsKey("skills")) {
+            syncSkillIndex(volunteerId, profileData.get("skills"));
+        }
+        if (changes.containsKey("availability")) {
+            syncAvailability(volunteerId, profileData.get("availability"));
+        }
         return true;
     }
 
     @Override
     @Transactional
-    public boolean updateSkills(Long volunteerId, String skills) {
-        Volunteer volunteer = volunteerRepository.findById(volunteerId)
-                .orElseThrow(() -> new RuntimeException("Volunteer not found"));
-        
-        volunteer.setSkills(skills);
-        volunteerRepository.save(volunteer);
+    public boolean updateSkills(Long volunteerId, String skills, Long expectedVersion) {
+        Map<String, Object> changes = new HashMap<>();
+        changes.put("skills", skills);
+        updateColumns(volunteerId, changes, expectedVersion);
+        syncSkillIndex(volunteerId, skills);
         return true;
     }
 
     @Override
     @Transactional
-    public boolean updateAvailability(Long volunteerId, String availability) {
-        Volunteer volunteer = volunteerRepository.findById(volunteerId)
-                .orElseThrow(() -> new RuntimeException("Volunteer not found"));
-        
-        volunteer.setAvailability(availability);
-        volunteerRepository.save(volunteer);
+    public boolean updateAvailability(Long volunteerId, String availability, Long expectedVersion) {
+        Map<String, Object> changes = new HashMap<>();
+        changes.put("availability", availability);
+        updateColumns(volunteerId, changes, expectedVersion);
+        syncAvailability(volunteerId, availability);
         return true;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Object> getVolunteerStats(Long volunteerId) {
-        Volunteer volunteer = volunteerRepository.findById(volunteerId)
-                .orElseThrow(() -> new RuntimeException("Volunteer not found"));
+        List<RoleStats> roleStats = eventVolunteerRepository.findRoleStatsByVolunteerId(
+                volunteerId, Event.EventStatus.COMPLETED);
+        
+        if (roleStats.isEmpty()) {
+            cachedEntityLookup.getVolunteer(volunteerId);
+        }
         
-        List<EventVolunteer> eventVolunteers = eventVolunteerRepository.findByVolunteer(volunteer);
+        return toStats(roleStats);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Map<String, Object>> getVolunteerStats(Collection<Long> volunteerIds) {
+        Map<Long, List<RoleStats>> byVolunteer = new LinkedHashMap<>();
+        for (Long volunteerId : volunteerIds) {
+            byVolunteer.put(volunteerId, new ArrayList<>());
+        }
         
-        int totalEvents = eventVolunteers.size();
+        if (!byVolunteer.isEmpty()) {
+            for (RoleStats row : eventVolunteerRepository.findRoleStatsByVolunteerIds(
+                    byVolunteer.keySet(), Event.EventStatus.COMPLETED)) {
+                byVolunteer.get(row.volunteerId()).add(row);
+            }
+        }
         
-        // Count completed events
+        Map<Long, Map<String, Object>> stats = new LinkedHashMap<>();
+        byVolunteer.forEach((volunteerId, rows) -> stats.put(volunteerId, toStats(rows)));
+        return stats;
+    }
+    
+    private Map<String, Object> toStats(List<RoleStats> roleStats) {
+        int totalEvents = 0;
         int completedEvents = 0;
         List<String> roles = new ArrayList<>();
         
-        for (EventVolunteer ev : eventVolunteers) {
-            if (ev.getEvent().getStatus() == Event.EventStatus.COMPLETED) {
-                completedEvents++;
-            }
-            
-            if (!roles.contains(ev.getRole())) {
-                roles.add(ev.getRole());
-            }
+        // Rows are already grouped by role, so every role appears once
+        for (RoleStats row : roleStats) {
+            totalEvents += row.totalEvents().intValue();
+            completedEvents += row.completedEvents().intValue();
+            roles.add(row.role());
         }
         
         Map<String, Object> stats = new HashMap<>();
@@ -110,29 +214,120 @@ public class VolunteerManagementServiceImpl implements VolunteerManagementServic
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Volunteer> searchVolunteers(Map<String, String> criteria) {
-        List<Volunteer> allVolunteers = volunteerRepository.findAll();
+        return volunteerRepository.findAll(VolunteerSpecifications.fromCriteria(criteria), Sort.by("id"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Volunteer> searchVolunteers(Map<String, String> criteria, Long afterId, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        
+        Specification<Volunteer> spec = VolunteerSpecifications.fromCriteria(criteria);
+        if (afterId != null) {
+            spec = spec.and(VolunteerSpecifications.idGreaterThan(afterId));
+        }
+        
+        // Fetch one extra row to find out whether another page exists without a COUNT query
+        List<Volunteer> volunteers = volunteerRepository.findBy(spec,
+                query -> query.sortBy(Sort.by("id")).limit(limit + 1).all());
+        
+        boolean hasNext = volunteers.size() > limit;
+        if (hasNext) {
+            volunteers = volunteers.subList(0, limit);
+        }
+        
+        return new SliceImpl<>(volunteers, PageRequest.ofSize(limit), hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Volunteer> findVolunteersBySkills(Collection<String> skills, boolean matchAll) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String skill : skills) {
+            String token = VolunteerSkill.normalize(skill);
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        
+        if (tokens.isEmpty()) {
+            return new ArrayList<>();
+        }
         
-        return allVolunteers.stream()
-                .filter(volunteer -> matchesCriteria(volunteer, criteria))
-                .collect(Collectors.toList());
+        return matchAll
+                ? volunteerRepository.findWithAllSkills(tokens, tokens.size())
+                : volunteerRepository.findWithAnySkill(tokens);
     }
     
-    private boolean matchesCriteria(Volunteer volunteer, Map<String, String> criteria) {
-        if (criteria.containsKey("skills") && (volunteer.getSkills() == null || 
-                !volunteer.getSkills().toLowerCase().contains(criteria.get("skills").toLowerCase()))) {
-            return false;
+    @Override
+    public List<Long> findAvailableVolunteerIds(Date start, int durationMinutes) {
+        if (durationMinutes < 1) {
+            throw new IllegalArgumentException("Duration must be at least 1 minute");
+        }
+        
+        ZonedDateTime from = start.toInstant().atZone(availabilityIndex.getZone());
+        return availabilityIndex.findAvailable(from, from.plusMinutes(durationMinutes));
+    }
+    
+    @Override
+    public int backfillAvailability() {
+        return volunteerIndexBackfill.backfillAvailability();
+    }
+    
+    @Override
+    public int backfillSkills() {
+        return volunteerIndexBackfill.backfillSkills();
+    }
+    
+    // Write only the changed columns; no row means the volunteer is gone or the version moved on
+    private void updateColumns(Long volunteerId, Map<String, Object> changes, Long expectedVersion) {
+        if (volunteerRepository.updateColumns(volunteerId, changes, expectedVersion) == 0) {
+            if (!volunteerRepository.existsById(volunteerId)) {
+                throw new ResourceNotFoundException("Volunteer not found");
+            }
+            throw new OptimisticLockingFailureException(
+                    "Volunteer was changed by someone else; reload it and try again");
         }
+        cachedEntityLookup.evictVolunteer(volunteerId);
+    }
+    
+    // Replace the volunteer_availability rows with the windows parsed from the availability text
+    private void syncAvailability(Long volunteerId, String availability) {
+        List<AvailabilityWindow> windows = AvailabilityWindow.parse(availability);
         
-        if (criteria.containsKey("availability") && (volunteer.getAvailability() == null || 
-                !volunteer.getAvailability().toLowerCase().contains(criteria.get("availability").toLowerCase()))) {
-            return false;
+        availabilitySlotRepository.deleteByVolunteerId(volunteerId);
+        Volunteer volunteer = volunteerRepository.getReferenceById(volunteerId);
+        List<AvailabilitySlot> slots = new ArrayList<>();
+        for (AvailabilityWindow window : windows) {
+            slots.add(new AvailabilitySlot(volunteer, window));
         }
+        availabilitySlotRepository.saveAll(slots);
+        
+        AfterCommit.run(() -> availabilityIndex.replace(volunteerId, windows));
+    }
+    
+    // Bring the volunteer_skills rows in line with the volunteer's skills text
+    private void syncSkillIndex(Long volunteerId, String skills) {
+        Set<String> wanted = VolunteerSkill.tokenize(skills);
+        Set<String> existing = new HashSet<>(volunteerSkillRepository.findSkillsByVolunteerId(volunteerId));
         
-        if (criteria.containsKey("status") && !volunteer.getStatus().name().equalsIgnoreCase(criteria.get("status"))) {
-            return false;
+        Set<String> removed = new HashSet<>(existing);
+        removed.removeAll(wanted);
+        if (!removed.isEmpty()) {
+            volunteerSkillRepository.deleteByVolunteerIdAndSkillIn(volunteerId, removed);
         }
         
-        return true;
+        Volunteer volunteer = volunteerRepository.getReferenceById(volunteerId);
+        List<VolunteerSkill> added = new ArrayList<>();
+        for (String skill : wanted) {
+            if (!existing.contains(skill)) {
+                added.add(new VolunteerSkill(volunteer, skill));
+            }
+        }
+        volunteerSkillRepository.saveAll(added);
     }
 }
@@ -0,0 +1,110 @@
+package com.example.VoloConnect.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Hikari's meters are stood in for by meters of the same names in a simple registry
+class ConcurrencyLimiterTests {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private AtomicInteger pendingConnections;
+
+	private ConcurrencyLimiter limiter;
+
+	@BeforeEach
+	void createLimiter() {
+		meterRegistry = new SimpleMeterRegistry();
+		pendingConnections = new AtomicInteger();
+		Gauge.builder("hikaricp.connections.pending", pendingConnections, AtomicInteger::get)
+				.tag("pool", "primary")
+				.register(meterRegistry);
+
+		limiter = new ConcurrencyLimiter();
+		ReflectionTestUtils.setField(limiter, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(limiter, "initialLimit", 20);
+		ReflectionTestUtils.setField(limiter, "minLimit", 2);
+		ReflectionTestUtils.setField(limiter, "maxLimit", 200);
+		ReflectionTestUtils.setField(limiter, "targetAcquireTime", Duration.ofMillis(50));
+		limiter.registerMetrics();
+	}
+
+	@Test
+	void backsOffWhileThreadsWaitForAConnection() {
+		pendingConnections.set(3);
+
+		limiter.adjust();
+		assertThat(limiter.getLimit()).isEqualTo(15);
+		limiter.adjust();
+		assertThat(limiter.getLimit()).isEqualTo(11);
+	}
+
+	@Test
+	void neverBacksOffBelowTheMinimum() {
+		pendingConnections.set(3);
+
+		for (int i = 0; i < 50; i++) {
+			limiter.adjust();
+		}
+		assertThat(limiter.getLimit()).isEqualTo(2);
+	}
+
+	@Test
+	void backsOffWhenConnectionsAreSlowToAcquire() {
+		Timer acquire = Timer.builder("hikaricp.connections.acquire").tag("pool", "primary").register(meterRegistry);
+		for (int i = 0; i < 10; i++) {
+			acquire.record(Duration.ofMillis(200));
+		}
+
+		limiter.adjust();
+		assertThat(limiter.getLimit()).isEqualTo(15);
+
+		// Only acquisitions since the last adjustment count
+		for (int i = 0; i < 10; i++) {
+			acquire.record(Duration.ofMillis(1));
+		}
+		limiter.adjust();
+		assertThat(limiter.getLimit()).isEqualTo(15);
+	}
+
+	@Test
+	void growsWhenThePoolKeepsUpAndTheLimitIsNearlyReached() {
+		for (int i = 0; i < 16; i++) {
+			assertThat(limiter.tryAcquire()).isTrue();
+		}
+
+		limiter.adjust();
+		assertThat(limiter.getLimit()).isEqualTo(21);
+	}
+
+	@Test
+	void staysPutWhenThePoolKeepsUpAndTheLimitIsNotUsed() {
+		limiter.tryAcquire();
+
+		limiter.adjust();
+		assertThat(limiter.getLimit()).isEqualTo(20);
+	}
+
+	@Test
+	void refusesSlotsOverTheLimit() {
+		pendingConnections.set(1);
+		for (int i = 0; i < 50; i++) {
+			limiter.adjust();
+		}
+
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+		limiter.release();
+		assertThat(limiter.tryAcquire()).isTrue();
+	}
+}
@@ -0,0 +1,206 @@
+package com.example.VoloConnect.config;
+
+import com.example.VoloConnect.models.IdempotencyKey;
+import com.example.VoloConnect.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyFilterTests {
+
+	private static final int THREADS = 8;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TestController controller;
+
+	@Autowired
+	private IdempotencyKeyRepository idempotencyKeyRepository;
+
+	private String key;
+
+	@BeforeEach
+	void reset() {
+		key = UUID.randomUUID().toString();
+		controller.executions.set(0);
+	}
+
+	@Test
+	void retryReplaysTheFirstResponse() throws Exception {
+		MvcResult first = send("/api/test/idempotency/count", "{\"n\": 1}");
+		MvcResult retry = send("/api/test/idempotency/count", "{\"n\": 1}");
+
+		assertThat(first.getResponse().getStatus()).isEqualTo(201);
+		assertThat(first.getResponse().getHeader("Idempotent-Replayed")).isNull();
+		assertThat(retry.getResponse().getStatus()).isEqualTo(201);
+		assertThat(retry.getResponse().getHeader("Idempotent-Replayed")).isEqualTo("true");
+		assertThat(retry.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+		assertThat(controller.executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	void retryWhileTheFirstRequestRunsGetsConflict() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<MvcResult> first = executor.submit(() -> send("/api/test/idempotency/slow", "{}"));
+			assertThat(controller.entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+			MvcResult retry = send("/api/test/idempotency/slow", "{}");
+			assertThat(retry.getResponse().getStatus()).isEqualTo(409);
+			assertThat(retry.getResponse().getHeader("Retry-After")).isEqualTo("1");
+
+			controller.release.countDown();
+			assertThat(first.get(10, TimeUnit.SECONDS).getResponse().getStatus()).isEqualTo(200);
+			assertThat(controller.executions.get()).isEqualTo(1);
+		} finally {
+			controller.release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void keyReusedForADifferentRequestIsRejected() throws Exception {
+		send("/api/test/idempotency/count", "{\"n\": 1}");
+		MvcResult reused = send("/api/test/idempotency/count", "{\"n\": 2}");
+
+		assertThat(reused.getResponse().getStatus()).isEqualTo(422);
+		assertThat(reused.getResponse().getContentAsString()).contains("different request");
+		assertThat(controller.executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	void serverErrorsAreNotStored() throws Exception {
+		MvcResult first = send("/api/test/idempotency/fail", "{}");
+		MvcResult retry = send("/api/test/idempotency/fail", "{}");
+
+		assertThat(first.getResponse().getStatus()).isEqualTo(503);
+		assertThat(retry.getResponse().getStatus()).isEqualTo(503);
+		assertThat(retry.getResponse().getHeader("Idempotent-Replayed")).isNull();
+		assertThat(controller.executions.get()).isEqualTo(2);
+		assertThat(idempotencyKeyRepository.existsById(key)).isFalse();
+	}
+
+	@Test
+	void staleReservationIsTakenOver() throws Exception {
+		// A request that died holding the key, with its in-progress timeout already passed
+		Date past = new Date(System.currentTimeMillis() - 60_000);
+		idempotencyKeyRepository.save(new IdempotencyKey(key, "0".repeat(64), past, past));
+
+		MvcResult result = send("/api/test/idempotency/count", "{\"n\": 1}");
+		MvcResult retry = send("/api/test/idempotency/count", "{\"n\": 1}");
+
+		assertThat(result.getResponse().getStatus()).isEqualTo(201);
+		assertThat(result.getResponse().getHeader("Idempotent-Replayed")).isNull();
+		assertThat(retry.getResponse().getHeader("Idempotent-Replayed")).isEqualTo("true");
+		assertThat(controller.executions.get()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentRequestsWithTheSameKeyRunOnce() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<MvcResult>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < THREADS; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return send("/api/test/idempotency/count", "{\"n\": 1}");
+				}));
+			}
+			start.countDown();
+
+			int executed = 0;
+			for (Future<MvcResult> future : futures) {
+				MvcResult result = future.get(10, TimeUnit.SECONDS);
+				int status = result.getResponse().getStatus();
+				assertThat(status).isIn(201, 409);
+				if (status == 201 && result.getResponse().getHeader("Idempotent-Replayed") == null) {
+					executed++;
+				}
+			}
+			assertThat(executed).isEqualTo(1);
+			assertThat(controller.executions.get()).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private MvcResult send(String path, String body) throws Exception {
+		return mockMvc.perform(post(path)
+				.header(IdempotencyFilter.HEADER, key)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(body)).andReturn();
+	}
+
+	@TestConfiguration
+	static class Endpoints {
+
+		@Bean
+		TestController testController() {
+			return new TestController();
+		}
+	}
+
+	// Endpoints whose executions the tests can count and hold up
+	@RestController
+	@RequestMapping("/api/test/idempotency")
+	static class TestController {
+
+		final AtomicInteger executions = new AtomicInteger();
+
+		final CountDownLatch entered = new CountDownLatch(1);
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		@PostMapping("/count")
+		ResponseEntity<Map<String, Object>> count(@RequestBody Map<String, Object> body) {
+			return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("execution", executions.incrementAndGet()));
+		}
+
+		@PostMapping("/slow")
+		Map<String, Object> slow() throws InterruptedException {
+			executions.incrementAndGet();
+			entered.countDown();
+			release.await(10, TimeUnit.SECONDS);
+			return Map.of("done", true);
+		}
+
+		@PostMapping("/fail")
+		ResponseEntity<Map<String, Object>> fail() {
+			executions.incrementAndGet();
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("message", "Unavailable"));
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.VoloConnect.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTests {
+
+	private RateLimitFilter filter;
+
+	@BeforeEach
+	void createFilter() {
+		filter = new RateLimitFilter();
+		ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(filter, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(filter, "enabled", true);
+		ReflectionTestUtils.setField(filter, "ipCapacity", 2);
+		ReflectionTestUtils.setField(filter, "ipPerMinute", 1);
+		ReflectionTestUtils.setField(filter, "emailCapacity", 1);
+		ReflectionTestUtils.setField(filter, "emailPerMinute", 1);
+		ReflectionTestUtils.setField(filter, "maxClients", 100L);
+		ReflectionTestUtils.setField(filter, "idleExpiry", Duration.ofMinutes(10));
+		filter.createBuckets();
+	}
+
+	@Test
+	void requestsOverTheBurstGet429WithRetryAfter() throws Exception {
+		assertThat(signUp("10.0.0.1").getStatus()).isEqualTo(200);
+		assertThat(signUp("10.0.0.1").getStatus()).isEqualTo(200);
+
+		MockHttpServletResponse rejected = signUp("10.0.0.1");
+		assertThat(rejected.getStatus()).isEqualTo(429);
+		// One token a minute, so the next one is just under 60 seconds away
+		assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isBetween(1L, 60L);
+		assertThat(rejected.getContentAsString()).contains("Too many requests");
+	}
+
+	@Test
+	void clientsHaveTheirOwnBuckets() throws Exception {
+		signUp("10.0.0.1");
+		signUp("10.0.0.1");
+
+		assertThat(signUp("10.0.0.1").getStatus()).isEqualTo(429);
+		assertThat(signUp("10.0.0.2").getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void oneEmailIsLimitedAcrossAddresses() throws Exception {
+		String body = "{\"email\": \"Flood@Example.com\"}";
+
+		assertThat(register("10.0.0.1", body).getStatus()).isEqualTo(200);
+		assertThat(register("10.0.0.2", body.toLowerCase()).getStatus()).isEqualTo(429);
+	}
+
+	@Test
+	void otherEndpointsAreNotLimited() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/events");
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			filter.doFilter(request, response, new MockFilterChain());
+			assertThat(response.getStatus()).isEqualTo(200);
+		}
+	}
+
+	private MockHttpServletResponse signUp(String address) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/events/1/volunteers");
+		request.setRemoteAddr(address);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+
+	private MockHttpServletResponse register(String address, String body) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/volunteers");
+		request.setRemoteAddr(address);
+		request.setContentType("application/json");
+		request.setContent(body.getBytes());
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
@@ -0,0 +1,107 @@
+package com.example.VoloConnect.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two separate in-memory H2 databases stand in for the MySQL primary and its replica
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+		"voloconnect.datasource.replica.urls=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1",
+		"voloconnect.datasource.replica.max-lag=PT5S",
+		"voloconnect.datasource.replica.check-interval=PT1H"
+})
+class ReplicaRoutingDataSourceTests {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@Autowired
+	private ReplicaLagMonitor replicaLagMonitor;
+
+	private JdbcTemplate replica;
+
+	@BeforeEach
+	void createReplicaHeartbeat() {
+		// Replication would bring the table over; here the replica needs it created by hand
+		replica = new JdbcTemplate(routingDataSource.getReplicas().get("replica-1"));
+		replica.execute("create table if not exists replica_heartbeat "
+				+ "(instance varchar(64) primary key, beat_millis bigint not null)");
+		replica.update("delete from replica_heartbeat");
+	}
+
+	@Test
+	void readOnlyTransactionsGoToACaughtUpReplica() {
+		replicateHeartbeat(System.currentTimeMillis());
+		replicaLagMonitor.check();
+
+		assertThat(routingDataSource.getHealthyReplicas()).containsExactly("replica-1");
+		assertThat(database(true)).isEqualToIgnoringCase("routing_replica");
+		assertThat(database(false)).isEqualToIgnoringCase("routing_primary");
+		assertThat(jdbcTemplate.queryForObject("select database()", String.class))
+				.isEqualToIgnoringCase("routing_primary");
+	}
+
+	@Test
+	void laggingReplicaFallsBackToPrimary() {
+		replicateHeartbeat(System.currentTimeMillis() - 60_000);
+		replicaLagMonitor.check();
+
+		assertThat(routingDataSource.getHealthyReplicas()).isEmpty();
+		assertThat(database(true)).isEqualToIgnoringCase("routing_primary");
+	}
+
+	@Test
+	void replicaWithoutHeartbeatFallsBackToPrimary() {
+		replicaLagMonitor.check();
+
+		assertThat(routingDataSource.getHealthyReplicas()).isEmpty();
+		assertThat(database(true)).isEqualToIgnoringCase("routing_primary");
+	}
+
+	@Test
+	void otherInstancesHeartbeatsAreIgnored() {
+		// Another instance with a clock a minute ahead; its fresh-looking row must not mask our lag
+		replica.update("insert into replica_heartbeat (instance, beat_millis) values (?, ?)",
+				"other-instance", System.currentTimeMillis() + 60_000);
+		replicateHeartbeat(System.currentTimeMillis() - 60_000);
+		replicaLagMonitor.check();
+
+		assertThat(routingDataSource.getHealthyReplicas()).isEmpty();
+	}
+
+	@Test
+	void monitorWritesHeartbeatOnPrimary() {
+		long before = System.currentTimeMillis();
+		replicaLagMonitor.check();
+
+		Long beat = new JdbcTemplate(routingDataSource.getPrimary())
+				.queryForObject("select beat_millis from replica_heartbeat where instance = ?", Long.class,
+						replicaLagMonitor.getInstance());
+		assertThat(beat).isGreaterThanOrEqualTo(before);
+	}
+
+	private void replicateHeartbeat(long beatMillis) {
+		replica.update("insert into replica_heartbeat (instance, beat_millis) values (?, ?)",
+				replicaLagMonitor.getInstance(), beatMillis);
+	}
+
+	// Name of the database a transaction's connection points at
+	private String database(boolean readOnly) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(readOnly);
+		return transaction.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+	}
+}
@@ -0,0 +1,49 @@
+package com.example.VoloConnect.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void fullBucketAllowsABurstThenRefusesWithTheWait() {
+		TokenBucket bucket = new TokenBucket(3, 60);
+
+		assertThat(bucket.tryTake(0)).isZero();
+		assertThat(bucket.tryTake(0)).isZero();
+		assertThat(bucket.tryTake(0)).isZero();
+		assertThat(bucket.tryTake(0)).isEqualTo(SECOND);
+	}
+
+	@Test
+	void tokensComeBackAtTheRefillRate() {
+		TokenBucket bucket = new TokenBucket(3, 60);
+		for (int i = 0; i < 3; i++) {
+			bucket.tryTake(0);
+		}
+
+		assertThat(bucket.tryTake(SECOND / 2)).isEqualTo(SECOND / 2);
+		assertThat(bucket.tryTake(SECOND)).isZero();
+		assertThat(bucket.tryTake(SECOND)).isEqualTo(SECOND);
+		assertThat(bucket.tryTake(3 * SECOND)).isZero();
+		assertThat(bucket.tryTake(3 * SECOND)).isZero();
+		assertThat(bucket.tryTake(3 * SECOND)).isEqualTo(SECOND);
+	}
+
+	@Test
+	void idleTimeNeverBuildsMoreThanOneBurst() {
+		TokenBucket bucket = new TokenBucket(3, 60);
+		bucket.tryTake(0);
+
+		long later = 3600 * SECOND;
+		assertThat(bucket.tryTake(later)).isZero();
+		assertThat(bucket.tryTake(later)).isZero();
+		assertThat(bucket.tryTake(later)).isZero();
+		assertThat(bucket.tryTake(later)).isEqualTo(SECOND);
+	}
+}
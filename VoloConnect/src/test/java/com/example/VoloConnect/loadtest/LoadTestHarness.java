@@ -0,0 +1,296 @@
+package com.example.VoloConnect.loadtest;
+
+import com.example.VoloConnect.VoloConnectApplication;
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.repository.EventRepository;
+import com.example.VoloConnect.repository.VolunteerRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Boots the application against an embedded H2 database, seeds it and drives a
+ * mixed read/write workload over HTTP from virtual threads, then prints
+ * per-endpoint throughput and p50/p99 latency.
+ * 
+ * Run with {@code mvn -Ploadtest test-compile exec:java}; tune with the
+ * {@code loadtest.*} system properties read in {@link Settings}.
+ */
+public final class LoadTestHarness {
+
+	private static final String[] SKILLS = {"first aid", "cooking", "driving", "teaching", "logistics", "photography"};
+
+	private LoadTestHarness() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Settings settings = Settings.fromSystemProperties();
+
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(VoloConnectApplication.class)
+				.properties(
+						"server.port=0",
+						"spring.threads.virtual.enabled=true",
+						"spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+						"spring.jpa.hibernate.ddl-auto=create-drop",
+						"logging.level.root=WARN")
+				.run(args);
+
+		try {
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			Dataset dataset = seed(context, settings);
+			Result result = drive(URI.create("http://localhost:" + port), dataset, settings);
+			printReport(System.out, settings, result);
+		} finally {
+			context.close();
+		}
+	}
+
+	private static Dataset seed(ConfigurableApplicationContext context, Settings settings) {
+		EventRepository eventRepository = context.getBean(EventRepository.class);
+		VolunteerRepository volunteerRepository = context.getBean(VolunteerRepository.class);
+
+		List<Event> events = new ArrayList<>();
+		for (int i = 0; i < settings.events(); i++) {
+			Event event = new Event();
+			event.setTitle("Load test event " + i);
+			event.setDescription("Generated by the load test harness");
+			event.setDate(new Date(System.currentTimeMillis() + Duration.ofHours(i + 1).toMillis()));
+			event.setLocation("Hall " + (i % 10));
+			event.setCapacity(settings.capacity());
+			events.add(event);
+		}
+
+		List<Volunteer> volunteers = new ArrayList<>();
+		for (int i = 0; i < settings.volunteers(); i++) {
+			Volunteer volunteer = new Volunteer();
+			volunteer.setName("Volunteer " + i);
+			volunteer.setEmail("loadtest-" + i + "@example.com");
+			volunteer.setPhone("555-" + i);
+			volunteer.setSkills(SKILLS[i % SKILLS.length] + ", " + SKILLS[(i / SKILLS.length) % SKILLS.length]);
+			volunteer.setAvailability(i % 2 == 0 ? "weekends" : "evenings");
+			volunteer.setStatus(Volunteer.VolunteerStatus.ACTIVE);
+			volunteers.add(volunteer);
+		}
+
+		long[] eventIds = eventRepository.saveAll(events).stream().mapToLong(Event::getId).toArray();
+		long[] volunteerIds = volunteerRepository.saveAll(volunteers).stream().mapToLong(Volunteer::getId).toArray();
+		return new Dataset(eventIds, volunteerIds);
+	}
+
+	private static Result drive(URI base, Dataset dataset, Settings settings) throws Exception {
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			HttpClient client = HttpClient.newBuilder()
+					.connectTimeout(Duration.ofSeconds(5))
+					.build();
+
+			long start = System.nanoTime();
+			long measureFrom = start + settings.warmup().toNanos();
+			long deadline = measureFrom + settings.duration().toNanos();
+
+			List<Future<Recorder>> workers = new ArrayList<>();
+			for (int i = 0; i < settings.concurrency(); i++) {
+				workers.add(executor.submit(() -> runWorker(client, base, dataset, measureFrom, deadline)));
+			}
+
+			Recorder merged = new Recorder();
+			for (Future<Recorder> worker : workers) {
+				Recorder recorder = worker.get();
+				for (Operation operation : Operation.values()) {
+					merged.latencies.get(operation).addAll(recorder.latencies.get(operation));
+				}
+				merged.errors += recorder.errors;
+			}
+
+			Map<Operation, long[]> latencies = new EnumMap<>(Operation.class);
+			merged.latencies.forEach((operation, list) -> latencies.put(operation, list.toSortedArray()));
+			return new Result(latencies, merged.errors);
+		}
+	}
+
+	private static Recorder runWorker(HttpClient client, URI base, Dataset dataset, long measureFrom, long deadline) {
+		Recorder recorder = new Recorder();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		while (true) {
+			long begin = System.nanoTime();
+			if (begin >= deadline) {
+				return recorder;
+			}
+
+			Operation operation = Operation.pick(random.nextInt(100));
+			HttpRequest request = operation.request(base, dataset, random);
+			try {
+				HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+				long elapsed = System.nanoTime() - begin;
+				if (begin >= measureFrom) {
+					recorder.latencies.get(operation).add(elapsed);
+					// 4xx (e.g. a full event or duplicate assignment) is an expected outcome, 5xx is not
+					if (response.statusCode() >= 500) {
+						recorder.errors++;
+					}
+				}
+			} catch (Exception e) {
+				if (begin >= measureFrom) {
+					recorder.errors++;
+				}
+			}
+		}
+	}
+
+	private static void printReport(PrintStream out, Settings settings, Result result) {
+		Map<Operation, long[]> latencies = result.latencies();
+		double seconds = settings.duration().toMillis() / 1000.0;
+		out.printf("%nLoad test: %d concurrent clients, %s measured (after %s warm-up), %d events, %d volunteers%n",
+				settings.concurrency(), settings.duration(), settings.warmup(), settings.events(), settings.volunteers());
+		out.printf("%-22s %10s %12s %10s %10s %10s%n", "operation", "requests", "req/s", "p50 ms", "p99 ms", "max ms");
+
+		long total = 0;
+		for (Map.Entry<Operation, long[]> entry : latencies.entrySet()) {
+			long[] sorted = entry.getValue();
+			total += sorted.length;
+			out.printf("%-22s %10d %12.1f %10.2f %10.2f %10.2f%n", entry.getKey().label, sorted.length,
+					sorted.length / seconds, percentile(sorted, 50), percentile(sorted, 99),
+					sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1_000_000.0);
+		}
+
+		long[] all = latencies.values().stream().flatMapToLong(Arrays::stream).sorted().toArray();
+		out.printf("%-22s %10d %12.1f %10.2f %10.2f %10.2f%n", "TOTAL", total, total / seconds,
+				percentile(all, 50), percentile(all, 99), all.length == 0 ? 0.0 : all[all.length - 1] / 1_000_000.0);
+		out.printf("Errors (5xx or I/O): %d%n", result.errors());
+	}
+
+	// Nearest-rank percentile of sorted nanosecond samples, in milliseconds
+	private static double percentile(long[] sorted, int percentile) {
+		if (sorted.length == 0) {
+			return 0.0;
+		}
+		int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+		return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+	}
+
+	private enum Operation {
+		UPCOMING("upcoming events", 35),
+		ROSTER("event roster", 20),
+		SEARCH("volunteer search", 20),
+		STATS("volunteer stats", 15),
+		ASSIGN("assign volunteer", 10);
+
+		private final String label;
+		private final int weight;
+
+		Operation(String label, int weight) {
+			this.label = label;
+			this.weight = weight;
+		}
+
+		// Map a number in [0, 100) to an operation according to the weights
+		static Operation pick(int roll) {
+			int cumulative = 0;
+			for (Operation operation : values()) {
+				cumulative += operation.weight;
+				if (roll < cumulative) {
+					return operation;
+				}
+			}
+			return UPCOMING;
+		}
+
+		HttpRequest request(URI base, Dataset dataset, ThreadLocalRandom random) {
+			long eventId = dataset.eventIds()[random.nextInt(dataset.eventIds().length)];
+			long volunteerId = dataset.volunteerIds()[random.nextInt(dataset.volunteerIds().length)];
+
+			return switch (this) {
+				case UPCOMING -> get(base, "/api/events/upcoming?limit=20");
+				case ROSTER -> get(base, "/api/events/" + eventId + "/roster");
+				case SEARCH -> get(base, "/api/volunteers/search?status=ACTIVE&skills="
+						+ SKILLS[random.nextInt(SKILLS.length)].replace(" ", "%20") + "&limit=50");
+				case STATS -> get(base, "/api/volunteers/" + volunteerId + "/stats");
+				case ASSIGN -> HttpRequest.newBuilder(base.resolve("/api/events/" + eventId + "/volunteers"))
+						.header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString(
+								"{\"volunteerId\":" + volunteerId + ",\"role\":\"Helper\"}"))
+						.build();
+			};
+		}
+
+		private static HttpRequest get(URI base, String path) {
+			return HttpRequest.newBuilder(base.resolve(path)).GET().build();
+		}
+	}
+
+	private record Dataset(long[] eventIds, long[] volunteerIds) {
+	}
+
+	private record Result(Map<Operation, long[]> latencies, long errors) {
+	}
+
+	private static final class Recorder {
+
+		final Map<Operation, LongList> latencies = new EnumMap<>(Operation.class);
+		long errors;
+
+		Recorder() {
+			for (Operation operation : Operation.values()) {
+				latencies.put(operation, new LongList());
+			}
+		}
+	}
+
+	// Growable primitive list so recording a sample does not allocate
+	private static final class LongList {
+
+		private long[] values = new long[1024];
+		private int size;
+
+		void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		void addAll(LongList other) {
+			for (int i = 0; i < other.size; i++) {
+				add(other.values[i]);
+			}
+		}
+
+		long[] toSortedArray() {
+			long[] sorted = Arrays.copyOf(values, size);
+			Arrays.sort(sorted);
+			return sorted;
+		}
+	}
+
+	private record Settings(int concurrency, Duration warmup, Duration duration, int events, int volunteers,
+							int capacity) {
+
+		static Settings fromSystemProperties() {
+			return new Settings(
+					Integer.getInteger("loadtest.concurrency", 200),
+					Duration.parse(System.getProperty("loadtest.warmup", "PT5S")),
+					Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+					Integer.getInteger("loadtest.events", 200),
+					Integer.getInteger("loadtest.volunteers", 5000),
+					Integer.getInteger("loadtest.capacity", 50));
+		}
+	}
+}
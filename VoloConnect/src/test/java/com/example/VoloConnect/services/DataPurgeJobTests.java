@@ -0,0 +1,152 @@
+package com.example.VoloConnect.services;
+
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Event.EventStatus;
+import com.example.VoloConnect.models.EventVolunteer;
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.models.Volunteer.VolunteerStatus;
+import com.example.VoloConnect.repository.EventRepository;
+import com.example.VoloConnect.repository.EventVolunteerRepository;
+import com.example.VoloConnect.repository.VolunteerRepository;
+import com.example.VoloConnect.services.impl.DataPurgeJob;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+// Batches of two, so the purge takes several chunks; the schedule is off and the test runs the job itself
+@SpringBootTest(properties = {
+		"voloconnect.purge.enabled=true",
+		"voloconnect.purge.batch-size=2",
+		"voloconnect.purge.cron=-"
+})
+class DataPurgeJobTests {
+
+	@Autowired
+	private DataPurgeJob dataPurgeJob;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private EventVolunteerRepository eventVolunteerRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoSpyBean
+	private VolunteerRepository volunteerRepository;
+
+	@Test
+	void purgesInactiveVolunteersAndOldCancelledEventsWithTheirRows() {
+		List<Volunteer> inactive = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			inactive.add(createVolunteer(VolunteerStatus.INACTIVE));
+		}
+		Volunteer active = createVolunteer(VolunteerStatus.ACTIVE);
+		// Inactive when the purge starts, reactivated before the purge reaches its batch
+		Volunteer reactivated = createVolunteer(VolunteerStatus.INACTIVE);
+
+		Event open = createEvent(EventStatus.UPCOMING, new Date(), 3);
+		assign(open, inactive.get(0));
+		assign(open, inactive.get(1));
+		assign(open, active);
+
+		Date longAgo = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(60));
+		Event oldCancelled = createEvent(EventStatus.CANCELLED, longAgo, 1);
+		assign(oldCancelled, active);
+		Event recentCancelled = createEvent(EventStatus.CANCELLED, new Date(), 0);
+
+		// Right after the first batch is deleted, someone reactivates the volunteer of a later batch
+		AtomicBoolean first = new AtomicBoolean(true);
+		doAnswer(invocation -> {
+			Object deleted = invocation.callRealMethod();
+			if (first.getAndSet(false)) {
+				CompletableFuture.runAsync(() -> jdbcTemplate.update("update volunteers set status = ? where id = ?",
+						VolunteerStatus.ACTIVE.name(), reactivated.getId())).join();
+			}
+			return deleted;
+		}).when(volunteerRepository).deleteByIds(any(), eq(VolunteerStatus.INACTIVE));
+
+		dataPurgeJob.run();
+
+		List<Long> purgedIds = inactive.stream().map(Volunteer::getId).toList();
+		assertThat(count("select count(*) from volunteers where id in (%s)", purgedIds)).isZero();
+		assertThat(count("select count(*) from event_volunteers where volunteer_id in (%s)", purgedIds)).isZero();
+		assertThat(count("select count(*) from volunteer_skills where volunteer_id in (%s)", purgedIds)).isZero();
+		assertThat(count("select count(*) from volunteer_availability where volunteer_id in (%s)", purgedIds))
+				.isZero();
+
+		assertThat(volunteerRepository.existsById(active.getId())).isTrue();
+		assertThat(volunteerRepository.existsById(reactivated.getId())).isTrue();
+		assertThat(count("select count(*) from volunteer_skills where volunteer_id in (%s)",
+				List.of(reactivated.getId()))).isEqualTo(1);
+		assertThat(count("select count(*) from volunteer_availability where volunteer_id in (%s)",
+				List.of(reactivated.getId()))).isEqualTo(1);
+
+		// The surviving event keeps only the active volunteer's seat
+		assertThat(jdbcTemplate.queryForObject("select assigned_count from events where id = ?", Integer.class,
+				open.getId())).isEqualTo(1);
+		assertThat(eventRepository.existsById(oldCancelled.getId())).isFalse();
+		assertThat(count("select count(*) from event_volunteers where event_id in (%s)",
+				List.of(oldCancelled.getId()))).isZero();
+		assertThat(eventRepository.existsById(recentCancelled.getId())).isTrue();
+	}
+
+	private Volunteer createVolunteer(VolunteerStatus status) {
+		Volunteer volunteer = new Volunteer();
+		volunteer.setName("Purge test volunteer");
+		volunteer.setEmail("purge-" + UUID.randomUUID() + "@example.com");
+		volunteer.setPhone("555-0");
+		volunteer.setStatus(status);
+		volunteer = volunteerRepository.save(volunteer);
+
+		jdbcTemplate.update("insert into volunteer_skills (volunteer_id, skill) values (?, ?)",
+				volunteer.getId(), "cooking");
+		jdbcTemplate.update("insert into volunteer_availability "
+				+ "(volunteer_id, day_of_week, specific_date, start_minute, end_minute) values (?, ?, ?, ?, ?)",
+				volunteer.getId(), "MONDAY", null, 540, 720);
+		return volunteer;
+	}
+
+	private Event createEvent(EventStatus status, Date date, int assignedCount) {
+		Event event = new Event();
+		event.setTitle("Purge test event");
+		event.setDescription("Data purge test");
+		event.setDate(date);
+		event.setLocation("Test hall");
+		event.setCapacity(10);
+		event.setStatus(status);
+		event.setAssignedCount(assignedCount);
+		return eventRepository.save(event);
+	}
+
+	private void assign(Event event, Volunteer volunteer) {
+		EventVolunteer eventVolunteer = new EventVolunteer();
+		eventVolunteer.setEvent(event);
+		eventVolunteer.setVolunteer(volunteer);
+		eventVolunteer.setRole("Helper");
+		eventVolunteerRepository.save(eventVolunteer);
+	}
+
+	private long count(String sql, Collection<Long> ids) {
+		String placeholders = String.join(", ", ids.stream().map(id -> "?").toList());
+		Long count = jdbcTemplate.queryForObject(sql.formatted(placeholders), Long.class, ids.toArray());
+		return count == null ? 0 : count;
+	}
+}
@@ -0,0 +1,189 @@
+package com.example.VoloConnect.services;
+
+import com.example.VoloConnect.models.Event;
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.repository.EventRepository;
+import com.example.VoloConnect.repository.EventVolunteerRepository;
+import com.example.VoloConnect.repository.VolunteerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EventAssignmentConcurrencyTests {
+
+	private static final int THREADS = 32;
+
+	@Autowired
+	private EventManagementService eventManagementService;
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private EventVolunteerRepository eventVolunteerRepository;
+
+	@Test
+	void parallelAssignmentsNeverOverbook() throws Exception {
+		int capacity = 25;
+		Event event = createEvent(capacity);
+		List<Long> volunteerIds = createVolunteers("overbook", 300);
+
+		AtomicInteger assigned = new AtomicInteger();
+		AtomicInteger full = new AtomicInteger();
+		List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+
+		runConcurrently(volunteerIds, volunteerId -> {
+			try {
+				eventManagementService.assignVolunteer(event.getId(), volunteerId, "Helper");
+				assigned.incrementAndGet();
+			} catch (RuntimeException e) {
+				if ("Event is full".equals(e.getMessage())) {
+					full.incrementAndGet();
+				} else {
+					unexpected.add(e);
+				}
+			}
+		});
+
+		assertThat(unexpected).isEmpty();
+		assertThat(assigned.get()).isEqualTo(capacity);
+		assertThat(full.get()).isEqualTo(volunteerIds.size() - capacity);
+		assertThat(eventVolunteerRepository.countByEvent(event)).isEqualTo(capacity);
+		assertThat(eventRepository.findById(event.getId()).orElseThrow().getAssignedCount()).isEqualTo(capacity);
+	}
+
+	@Test
+	void parallelDuplicateSignUpsAssignOnce() throws Exception {
+		Event event = createEvent(100);
+		Long volunteerId = createVolunteers("duplicate", 1).get(0);
+
+		AtomicInteger assigned = new AtomicInteger();
+		AtomicInteger duplicates = new AtomicInteger();
+		List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+
+		runConcurrently(Collections.nCopies(200, volunteerId), id -> {
+			try {
+				eventManagementService.assignVolunteer(event.getId(), id, "Helper");
+				assigned.incrementAndGet();
+			} catch (RuntimeException e) {
+				if ("Volunteer is already assigned to this event".equals(e.getMessage())) {
+					duplicates.incrementAndGet();
+				} else {
+					unexpected.add(e);
+				}
+			}
+		});
+
+		assertThat(unexpected).isEmpty();
+		assertThat(assigned.get()).isEqualTo(1);
+		assertThat(duplicates.get()).isEqualTo(199);
+		assertThat(eventVolunteerRepository.countByEvent(event)).isEqualTo(1);
+		assertThat(eventRepository.findById(event.getId()).orElseThrow().getAssignedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void capacityChangesDuringSignUpsKeepSeatsConsistent() throws Exception {
+		Event event = createEvent(60);
+		List<Long> volunteerIds = createVolunteers("resize", 80);
+
+		AtomicInteger assigned = new AtomicInteger();
+		List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+
+		// Every fourth task shrinks the event instead of signing up
+		List<Long> tasks = new ArrayList<>();
+		for (int i = 0; i < volunteerIds.size(); i++) {
+			tasks.add(volunteerIds.get(i));
+			if (i % 4 == 0) {
+				tasks.add(-1L);
+			}
+		}
+
+		runConcurrently(tasks, id -> {
+			try {
+				if (id < 0) {
+					Event changes = new Event();
+					changes.setCapacity(40);
+					eventService.updateEvent(event.getId(), changes);
+				} else {
+					eventManagementService.assignVolunteer(event.getId(), id, "Helper");
+					assigned.incrementAndGet();
+				}
+			} catch (RuntimeException e) {
+				if (!"Event is full".equals(e.getMessage())
+						&& !"Capacity cannot be lower than the number of assigned volunteers".equals(e.getMessage())) {
+					unexpected.add(e);
+				}
+			}
+		});
+
+		Event stored = eventRepository.findById(event.getId()).orElseThrow();
+		long rows = eventVolunteerRepository.countByEvent(event);
+		assertThat(unexpected).isEmpty();
+		assertThat(rows).isEqualTo(assigned.get());
+		assertThat(stored.getAssignedCount()).isEqualTo((int) rows);
+		assertThat(stored.getAssignedCount()).isLessThanOrEqualTo(stored.getCapacity());
+	}
+
+	private void runConcurrently(List<Long> volunteerIds, Consumer<Long> task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (Long volunteerId : volunteerIds) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					task.accept(volunteerId);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private Event createEvent(int capacity) {
+		Event event = new Event();
+		event.setTitle("Stress test event");
+		event.setDescription("Concurrent sign-up test");
+		event.setDate(new Date());
+		event.setLocation("Test hall");
+		event.setCapacity(capacity);
+		return eventRepository.save(event);
+	}
+
+	private List<Long> createVolunteers(String prefix, int count) {
+		List<Volunteer> volunteers = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Volunteer volunteer = new Volunteer();
+			volunteer.setName("Volunteer " + i);
+			volunteer.setEmail(prefix + "-" + i + "@example.com");
+			volunteer.setPhone("555-" + i);
+			volunteers.add(volunteer);
+		}
+		return volunteerRepository.saveAll(volunteers).stream().map(Volunteer::getId).toList();
+	}
+}
@@ -0,0 +1,196 @@
+package com.example.VoloConnect.services;
+
+import com.example.VoloConnect.models.ImportJob;
+import com.example.VoloConnect.models.ImportJob.ImportStatus;
+import com.example.VoloConnect.models.ImportRowError;
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.repository.ImportJobRepository;
+import com.example.VoloConnect.repository.VolunteerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+// Chunks of two rows, so every file below spans several chunks
+@SpringBootTest(properties = {
+		"voloconnect.import.dir=target/test-imports",
+		"voloconnect.import.chunk-size=2"
+})
+class VolunteerImportServiceTests {
+
+	private static final String EXISTING_EMAILS = "select email from volunteers where email in (:emails)";
+
+	@Autowired
+	private VolunteerImportService volunteerImportService;
+
+	@Autowired
+	private ImportJobRepository importJobRepository;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@MockitoSpyBean
+	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	// Keeps emails unique across tests sharing the database
+	private String prefix;
+
+	@BeforeEach
+	void newPrefix() {
+		prefix = UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	@Test
+	void invalidRowsAreReportedAndTheRestImported() throws Exception {
+		ImportJob job = importAndWait(
+				"name,email,phone,status",
+				"Ann," + email("ann") + ",555-1,active",
+				"Bob,,555-2,",
+				"Carl,not-an-email,555-3,",
+				"Dana," + email("dana") + ",555-4,retired");
+
+		assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+		assertThat(job.getProcessedRows()).isEqualTo(4);
+		assertThat(job.getImportedRows()).isEqualTo(1);
+		assertThat(job.getErrorRows()).isEqualTo(3);
+		assertThat(volunteerImportService.getErrors(job.getId(), 10))
+				.extracting(ImportRowError::getRowNumber, ImportRowError::getMessage)
+				.containsExactly(
+						tuple(2, "Missing email"),
+						tuple(3, "Invalid email"),
+						tuple(4, "Invalid status: retired"));
+		assertThat(volunteerRepository.findByEmail(email("ann"))).isPresent();
+	}
+
+	@Test
+	void duplicatesInTheFileAndTheDatabaseAreSkipped() throws Exception {
+		saveVolunteer(email("existing"));
+
+		ImportJob job = importAndWait(
+				"name,email,phone",
+				"Ann," + email("ann") + ",555-1",
+				"Ann again," + email("ann").toUpperCase() + ",555-1",
+				"Eve," + email("existing") + ",555-2",
+				// In a later chunk; the first one is committed by then
+				"Ann later," + email("ann") + ",555-1",
+				"Bob," + email("bob") + ",555-3");
+
+		assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+		assertThat(job.getImportedRows()).isEqualTo(2);
+		assertThat(job.getDuplicateRows()).isEqualTo(3);
+		assertThat(volunteerImportService.getErrors(job.getId(), 10))
+				.extracting(ImportRowError::getRowNumber, ImportRowError::getMessage)
+				.containsExactly(
+						tuple(2, "Duplicate email in file"),
+						tuple(3, "Email already registered"),
+						tuple(4, "Email already registered"));
+		assertThat(volunteerRepository.findByEmail(email("bob"))).isPresent();
+	}
+
+	@Test
+	void resumeSkipsTheRowsAlreadyProcessed() throws Exception {
+		// An import that died after committing its first chunk
+		ImportJob interrupted = new ImportJob();
+		interrupted.setFileName("resume.csv");
+		interrupted.setStatus(ImportStatus.FAILED);
+		interrupted.setProcessedRows(2);
+		interrupted.setImportedRows(2);
+		interrupted = importJobRepository.save(interrupted);
+
+		Path upload = Path.of("target/test-imports", "import-" + interrupted.getId() + ".csv");
+		Files.createDirectories(upload.getParent());
+		Files.writeString(upload, String.join("\n",
+				"name,email,phone",
+				"Ann," + email("ann") + ",555-1",
+				"Bob," + email("bob") + ",555-2",
+				"Carl," + email("carl") + ",555-3",
+				"Dana," + email("dana") + ",555-4"));
+
+		volunteerImportService.resumeImport(interrupted.getId());
+		ImportJob job = awaitFinished(interrupted.getId());
+
+		assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+		assertThat(job.getProcessedRows()).isEqualTo(4);
+		assertThat(job.getImportedRows()).isEqualTo(4);
+		assertThat(volunteerRepository.findByEmail(email("ann"))).isEmpty();
+		assertThat(volunteerRepository.findByEmail(email("bob"))).isEmpty();
+		assertThat(volunteerRepository.findByEmail(email("carl"))).isPresent();
+		assertThat(volunteerRepository.findByEmail(email("dana"))).isPresent();
+		assertThat(Files.exists(upload)).isFalse();
+	}
+
+	@Test
+	void chunkIsRetriedWhenAnEmailIsRegisteredMeanwhile() throws Exception {
+		// Right after the first chunk looked for existing emails, someone else registers one of them
+		AtomicInteger lookups = new AtomicInteger();
+		doAnswer(invocation -> {
+			Object existing = invocation.callRealMethod();
+			if (lookups.incrementAndGet() == 1) {
+				CompletableFuture.runAsync(() -> saveVolunteer(email("bob"))).join();
+			}
+			return existing;
+		}).when(namedParameterJdbcTemplate).queryForList(eq(EXISTING_EMAILS), anyMap(), eq(String.class));
+
+		ImportJob job = importAndWait(
+				"name,email,phone",
+				"Ann," + email("ann") + ",555-1",
+				"Bob," + email("bob") + ",555-2",
+				"Carl," + email("carl") + ",555-3");
+
+		assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+		assertThat(lookups.get()).isEqualTo(3);
+		assertThat(job.getImportedRows()).isEqualTo(2);
+		assertThat(job.getDuplicateRows()).isEqualTo(1);
+		assertThat(volunteerImportService.getErrors(job.getId(), 10))
+				.extracting(ImportRowError::getRowNumber, ImportRowError::getMessage)
+				.containsExactly(tuple(2, "Email already registered"));
+		assertThat(volunteerRepository.findByEmail(email("ann"))).isPresent();
+		assertThat(volunteerRepository.findByEmail(email("carl"))).isPresent();
+	}
+
+	private ImportJob importAndWait(String... lines) throws Exception {
+		byte[] csv = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+		ImportJob job = volunteerImportService.startImport("volunteers.csv", new ByteArrayInputStream(csv));
+		return awaitFinished(job.getId());
+	}
+
+	// Imports run in the background; poll until the job leaves RUNNING
+	private ImportJob awaitFinished(Long jobId) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		ImportJob job = volunteerImportService.getJob(jobId);
+		while (job.getStatus() == ImportStatus.RUNNING && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+			job = volunteerImportService.getJob(jobId);
+		}
+		return job;
+	}
+
+	private void saveVolunteer(String email) {
+		Volunteer volunteer = new Volunteer();
+		volunteer.setName("Registered");
+		volunteer.setEmail(email);
+		volunteer.setPhone("555-0");
+		volunteerRepository.save(volunteer);
+	}
+
+	private String email(String name) {
+		return prefix + "-" + name + "@example.com";
+	}
+}
@@ -0,0 +1,112 @@
+package com.example.VoloConnect.services;
+
+import com.example.VoloConnect.models.Volunteer;
+import com.example.VoloConnect.repository.VolunteerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+// The concurrency limiter is off so every writer reaches the version check
+@SpringBootTest(properties = "voloconnect.concurrency-limit.enabled=false")
+@AutoConfigureMockMvc
+class VolunteerVersionConcurrencyTests {
+
+	private static final int THREADS = 16;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private VolunteerManagementService volunteerManagementService;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Test
+	void updateWritesOnlyTheGivenColumnsAndBumpsTheVersion() {
+		Long volunteerId = createVolunteer();
+		// Loaded once, so a stale copy would sit in the second-level cache if the update did not evict it
+		assertThat(volunteerRepository.findById(volunteerId).orElseThrow().getSkills()).isEqualTo("Cooking");
+
+		volunteerManagementService.updateSkills(volunteerId, "First aid", 0L);
+
+		Volunteer updated = volunteerRepository.findById(volunteerId).orElseThrow();
+		assertThat(updated.getSkills()).isEqualTo("First aid");
+		assertThat(updated.getBio()).isEqualTo("Original bio");
+		assertThat(updated.getVersion()).isEqualTo(1L);
+	}
+
+	@Test
+	void staleVersionIsRejected() {
+		Long volunteerId = createVolunteer();
+		volunteerManagementService.updateSkills(volunteerId, "First aid", 0L);
+
+		assertThatThrownBy(() -> volunteerManagementService.updateProfile(volunteerId, Map.of("bio", "Late edit"), 0L))
+				.isInstanceOf(OptimisticLockingFailureException.class);
+
+		Volunteer stored = volunteerRepository.findById(volunteerId).orElseThrow();
+		assertThat(stored.getBio()).isEqualTo("Original bio");
+		assertThat(stored.getVersion()).isEqualTo(1L);
+	}
+
+	@Test
+	void writersWithTheSameVersionAreAppliedOnce() throws Exception {
+		Long volunteerId = createVolunteer();
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < THREADS; i++) {
+				String skills = "Skill " + i;
+				futures.add(executor.submit(() -> {
+					start.await();
+					return mockMvc.perform(put("/api/volunteers/" + volunteerId + "/skills")
+							.header("If-Match", "\"0\"")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content("{\"skills\": \"" + skills + "\"}"))
+							.andReturn().getResponse().getStatus();
+				}));
+			}
+			start.countDown();
+
+			List<Integer> statuses = new ArrayList<>();
+			for (Future<Integer> future : futures) {
+				statuses.add(future.get());
+			}
+			assertThat(statuses).containsOnly(204, 412);
+			assertThat(statuses).filteredOn(status -> status == 204).hasSize(1);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(volunteerRepository.findById(volunteerId).orElseThrow().getVersion()).isEqualTo(1L);
+	}
+
+	private Long createVolunteer() {
+		Volunteer volunteer = new Volunteer();
+		volunteer.setName("Versioned volunteer");
+		volunteer.setEmail("version-" + UUID.randomUUID() + "@example.com");
+		volunteer.setPhone("555-0");
+		volunteer.setSkills("Cooking");
+		volunteer.setBio("Original bio");
+		return volunteerRepository.save(volunteer).getId();
+	}
+}